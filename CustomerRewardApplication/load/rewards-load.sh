@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+#
+# Load harness for the rewards API.
+#
+# Seeds one customer through POST /api/customers, then drives GET rewards with
+# `hey` (https://github.com/rakyll/hey) and POST customers with `wrk`
+# (https://github.com/wg/wrk) and prints the throughput summary. Every POST
+# carries a unique Idempotency-Key (see unique-post.lua); with a repeated
+# payload and no key all but the first would be deduplicated lookups, not
+# inserts. Run it once per build you want to compare, against a freshly
+# started app.
+#
+# Usage: load/rewards-load.sh [label]
+#   BASE_URL     (default http://localhost:8091)
+#   DURATION     (default 30s)
+#   CONCURRENCY  (default 50)
+#   THREADS      wrk threads (default 4)
+
+set -euo pipefail
+
+LABEL="${1:-run}"
+BASE_URL="${BASE_URL:-http://localhost:8091}"
+DURATION="${DURATION:-30s}"
+CONCURRENCY="${CONCURRENCY:-50}"
+THREADS="${THREADS:-4}"
+RUN_ID="$LABEL-$(date +%s)"
+RESULTS_DIR="$(dirname "$0")/results"
+
+command -v hey >/dev/null || { echo "hey is required (go install github.com/rakyll/hey@latest)"; exit 1; }
+command -v wrk >/dev/null || { echo "wrk is required (https://github.com/wg/wrk)"; exit 1; }
+mkdir -p "$RESULTS_DIR"
+
+PAYLOAD='{"customerName":"Load","transaction":[{"amount":120.00,"date":"2025-03-15"},{"amount":70.00,"date":"2025-04-10"},{"amount":40.00,"date":"2025-05-02"}]}'
+
+CUSTOMER_ID=$(curl -sf -H 'Content-Type: application/json' -H "Idempotency-Key: $RUN_ID-seed" \
+	-d "$PAYLOAD" "$BASE_URL/api/customers" \
+	| sed -n 's/.*"customerId":\([0-9]*\).*/\1/p')
+[ -n "$CUSTOMER_ID" ] || { echo "could not seed customer at $BASE_URL"; exit 1; }
+
+echo "== [$LABEL] GET rewards, c=$CONCURRENCY, z=$DURATION"
+hey -z "$DURATION" -c "$CONCURRENCY" \
+	"$BASE_URL/api/customers/$CUSTOMER_ID/rewards?startDate=2025-01-01&endDate=2025-12-31" \
+	| tee "$RESULTS_DIR/$LABEL-rewards.txt" | grep -E 'Requests/sec|99% in|Status code' -A0
+
+echo "== [$LABEL] POST customers, c=$CONCURRENCY, z=$DURATION"
+wrk -t "$THREADS" -c "$CONCURRENCY" -d "$DURATION" --latency -s "$(dirname "$0")/unique-post.lua" \
+	"$BASE_URL/api/customers" -- "$RUN_ID" "$PAYLOAD" \
+	| tee "$RESULTS_DIR/$LABEL-ingest.txt" | grep -E 'Requests/sec| 99%|Non-2xx'
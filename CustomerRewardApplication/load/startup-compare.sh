@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+#
+# Startup time and RSS comparison: plain jar vs. AOT + AppCDS vs. native image.
+#
+# Build the artifacts first (each profile rebuilds target/, so keep copies):
+#   mvn -B package -DskipTests                  -> target/CustomerRewardApplication-0.0.1-SNAPSHOT.jar
+#   mvn -B -Pcds package -DskipTests            -> target/cds/ (extracted jar + application.jsa)
+#   mvn -B -Pnative package -DskipTests         -> target/customer-rewards
+# and point JAR / CDS_DIR / NATIVE_BIN at them. Missing artifacts are skipped.
+#
+# "Ready" is the first successful response from /v3/api-docs, so the time covers
+# JVM start, context refresh, Hibernate bootstrap and the first request.
+#
+# Usage: load/startup-compare.sh [runs]
+
+set -uo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8091}"
+TARGET="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR="${JAR:-$TARGET/CustomerRewardApplication-0.0.1-SNAPSHOT.jar}"
+CDS_DIR="${CDS_DIR:-$TARGET/cds}"
+NATIVE_BIN="${NATIVE_BIN:-$TARGET/customer-rewards}"
+URL="http://localhost:$PORT/v3/api-docs"
+
+now_ms() { date +%s%3N; }
+
+# measure <label> <workdir> <command...>
+measure() {
+	local label="$1" dir="$2"
+	shift 2
+	local total_ms=0 total_rss=0
+	for ((i = 1; i <= RUNS; i++)); do
+		local start pid
+		start=$(now_ms)
+		(cd "$dir" && exec "$@" --server.port="$PORT" >/dev/null 2>&1) &
+		pid=$!
+		until curl -sf -o /dev/null "$URL"; do
+			kill -0 "$pid" 2>/dev/null || { echo "$label: process exited before ready"; return; }
+			sleep 0.02
+		done
+		local ready=$(( $(now_ms) - start ))
+		local rss
+		rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+		kill "$pid"; wait "$pid" 2>/dev/null
+		total_ms=$((total_ms + ready))
+		total_rss=$((total_rss + rss))
+	done
+	printf '%-10s ready %6d ms   rss %7d KB   (avg of %d)\n' "$label" $((total_ms / RUNS)) $((total_rss / RUNS)) "$RUNS"
+}
+
+[ -f "$JAR" ] && measure "jar" "$TARGET" java -jar "$JAR" \
+	|| echo "jar: $JAR not found, skipped"
+
+[ -f "$CDS_DIR/application.jsa" ] && measure "aot+cds" "$CDS_DIR" java -XX:SharedArchiveFile=application.jsa \
+	-Dspring.aot.enabled=true -jar "$(basename "$JAR")" \
+	|| echo "aot+cds: $CDS_DIR/application.jsa not found, skipped"
+
+[ -x "$NATIVE_BIN" ] && measure "native" "$TARGET" "$NATIVE_BIN" \
+	|| echo "native: $NATIVE_BIN not found, skipped"
@@ -0,0 +1,26 @@
+-- wrk script for load/rewards-load.sh: POSTs the payload with an Idempotency-Key
+-- that is unique per request, so every request is a real insert rather than a
+-- deduplicated lookup of the first customer.
+--
+-- Arguments (after --): <run id> <JSON payload>
+
+local threads = 0
+
+function setup(thread)
+	threads = threads + 1
+	thread:set("thread_id", threads)
+end
+
+function init(args)
+	prefix = args[1] .. "-" .. thread_id .. "-"
+	wrk.method = "POST"
+	wrk.body = args[2]
+	wrk.headers["Content-Type"] = "application/json"
+	counter = 0
+end
+
+function request()
+	counter = counter + 1
+	wrk.headers["Idempotency-Key"] = prefix .. counter
+	return wrk.format()
+end
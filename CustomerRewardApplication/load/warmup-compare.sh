@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+#
+# First-minute latency with and without the pre-readiness warm-up.
+#
+# Starts the jar twice, with rewards.warmup.enabled=false and =true. Each time
+# it waits for /actuator/health/readiness, then drives GET rewards with `hey`
+# (https://github.com/rakyll/hey) for the first minute of traffic. It prints
+# time-to-ready, the warm-up duration gauge and the first-minute p99.
+# Build the jar first (mvn -B package -DskipTests); the database must be up.
+#
+# Usage: load/warmup-compare.sh [label]
+#   JAR          (default target/CustomerRewardApplication-0.0.1-SNAPSHOT.jar)
+#   DURATION     (default 60s)
+#   CONCURRENCY  (default 50)
+
+set -uo pipefail
+
+LABEL="${1:-run}"
+PORT="${PORT:-8091}"
+BASE_URL="http://localhost:$PORT"
+JAR="${JAR:-$(cd "$(dirname "$0")/.." && pwd)/target/CustomerRewardApplication-0.0.1-SNAPSHOT.jar}"
+DURATION="${DURATION:-60s}"
+CONCURRENCY="${CONCURRENCY:-50}"
+RESULTS_DIR="$(dirname "$0")/results"
+
+command -v hey >/dev/null || { echo "hey is required (go install github.com/rakyll/hey@latest)"; exit 1; }
+[ -f "$JAR" ] || { echo "$JAR not found"; exit 1; }
+mkdir -p "$RESULTS_DIR"
+
+PAYLOAD='{"customerName":"Load","transaction":[{"amount":120.00,"date":"2025-03-15"},{"amount":70.00,"date":"2025-04-10"},{"amount":40.00,"date":"2025-05-02"}]}'
+
+now_ms() { date +%s%3N; }
+
+# first_minute <warmup-enabled>
+first_minute() {
+	local warmup="$1" start pid
+	start=$(now_ms)
+	java -jar "$JAR" --server.port="$PORT" --rewards.warmup.enabled="$warmup" >/dev/null 2>&1 &
+	pid=$!
+	until curl -sf -o /dev/null "$BASE_URL/actuator/health/readiness"; do
+		kill -0 "$pid" 2>/dev/null || { echo "warmup=$warmup: process exited before ready"; return; }
+		sleep 0.05
+	done
+	local ready=$(( $(now_ms) - start ))
+
+	local customer_id
+	# A fresh key per run, so each start reads a new customer instead of the previous run's
+	customer_id=$(curl -sf -H 'Content-Type: application/json' -H "Idempotency-Key: warmup-$warmup-$(now_ms)" \
+		-d "$PAYLOAD" "$BASE_URL/api/customers" \
+		| sed -n 's/.*"customerId":\([0-9]*\).*/\1/p')
+
+	local out="$RESULTS_DIR/$LABEL-warmup-$warmup.txt"
+	hey -z "$DURATION" -c "$CONCURRENCY" \
+		"$BASE_URL/api/customers/$customer_id/rewards?startDate=2025-01-01&endDate=2025-12-31" > "$out"
+
+	local warmup_s
+	warmup_s=$(curl -sf "$BASE_URL/actuator/metrics/rewards.warmup.duration" \
+		| sed -n 's/.*"value":\([0-9.E-]*\).*/\1/p')
+	kill "$pid"; wait "$pid" 2>/dev/null
+
+	printf 'warmup=%-5s ready %6d ms   warm-up %6s s   %s   %s\n' "$warmup" "$ready" "${warmup_s:--}" \
+		"$(grep -E '99% in' "$out" | xargs)" "$(grep -E 'Requests/sec' "$out" | xargs)"
+}
+
+first_minute false
+first_minute true
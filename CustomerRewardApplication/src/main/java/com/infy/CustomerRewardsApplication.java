@@ -3,7 +3,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import com.infy.config.NativeHints;
 
 /**
  * Main Spring Boot Application for Customer Rewards
@@ -11,6 +13,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "com.infy")
+@ImportRuntimeHints(NativeHints.class)
 public class CustomerRewardsApplication {
 
 	private static final Logger logger = LoggerFactory.getLogger(CustomerRewardsApplication.class);
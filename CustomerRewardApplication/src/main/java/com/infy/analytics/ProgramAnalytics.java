@@ -0,0 +1,269 @@
+package com.infy.analytics;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Program-wide reward analytics, updated one transaction at a time.
+ * <p>
+ * Per calendar month it keeps exact point and transaction counters, a
+ * {@link HyperLogLog} of the active customers and a {@link QuantileSketch} of
+ * the transaction amounts, plus the same sketches across all months. Memory
+ * grows with the number of months only.
+ * </p>
+ * <p>
+ * {@code highWaterCustomerId} is the largest customer ID counted. IDENTITY IDs
+ * from concurrent saves can commit out of order, so the IDs counted within
+ * {@link #TAIL_WINDOW} of the high-water mark are remembered as well; a
+ * restored snapshot replays that tail and skips the customers it already
+ * counted. Not thread-safe.
+ * </p>
+ */
+public class ProgramAnalytics {
+
+	private static final int SNAPSHOT_MAGIC = 0x52574132;
+
+	/**
+	 * Customer IDs more than this far below the high-water mark are assumed to
+	 * have committed before any snapshot that counts the high-water customer.
+	 */
+	public static final long TAIL_WINDOW = 4096;
+
+	private static final double AMOUNT_ACCURACY = 0.01;
+
+	private static final double MIN_AMOUNT = 0.01;
+
+	private static final double MAX_AMOUNT = 1_000_000_000;
+
+	private final NavigableMap<YearMonth, Month> months = new TreeMap<>();
+
+	private final Month allMonths = new Month();
+
+	private long highWaterCustomerId;
+
+	private final NavigableSet<Long> tailCustomerIds = new TreeSet<>();
+
+	/**
+	 * Counts one transaction.
+	 *
+	 * @param customerId the owning customer
+	 * @param date       transaction date
+	 * @param amount     transaction amount
+	 * @param points     points earned by the transaction
+	 */
+	public void add(long customerId, LocalDate date, double amount, int points) {
+		months.computeIfAbsent(YearMonth.from(date), month -> new Month()).add(customerId, amount, points);
+		allMonths.add(customerId, amount, points);
+		highWaterCustomerId = Math.max(highWaterCustomerId, customerId);
+		if (customerId > getReplayFromCustomerId()) {
+			tailCustomerIds.add(customerId);
+		}
+		if (!tailCustomerIds.isEmpty() && tailCustomerIds.first() <= getReplayFromCustomerId()) {
+			tailCustomerIds.headSet(getReplayFromCustomerId(), true).clear();
+		}
+	}
+
+	/**
+	 * @return the customer ID after which a restored snapshot must be replayed
+	 */
+	public long getReplayFromCustomerId() {
+		return Math.max(0, highWaterCustomerId - TAIL_WINDOW);
+	}
+
+	/**
+	 * @return the counted customer IDs above {@link #getReplayFromCustomerId()}
+	 */
+	public Set<Long> getTailCustomerIds() {
+		return Collections.unmodifiableSet(tailCustomerIds);
+	}
+
+	/**
+	 * @param customerId a customer ID
+	 * @return whether the customer's transactions are already counted, assuming
+	 *         IDs below the tail window committed before the high-water customer
+	 */
+	public boolean isCounted(long customerId) {
+		return customerId <= getReplayFromCustomerId() || tailCustomerIds.contains(customerId);
+	}
+
+	/**
+	 * @return per-month aggregates in calendar order
+	 */
+	public Map<YearMonth, Month> getMonths() {
+		return Collections.unmodifiableMap(months);
+	}
+
+	/**
+	 * @return aggregates across all months
+	 */
+	public Month getAllMonths() {
+		return allMonths;
+	}
+
+	public long getHighWaterCustomerId() {
+		return highWaterCustomerId;
+	}
+
+	public ProgramAnalytics copy() {
+		ProgramAnalytics copy = new ProgramAnalytics();
+		months.forEach((month, aggregate) -> copy.months.put(month, aggregate.copy()));
+		copy.allMonths.merge(allMonths);
+		copy.highWaterCustomerId = highWaterCustomerId;
+		copy.tailCustomerIds.addAll(tailCustomerIds);
+		return copy;
+	}
+
+	/**
+	 * Writes a snapshot to a temporary file next to {@code path} and moves it
+	 * into place, so a crash never leaves a partial snapshot behind.
+	 *
+	 * @param path snapshot file
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void writeTo(Path path) throws IOException {
+		Path directory = path.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeLong(highWaterCustomerId);
+			out.writeInt(tailCustomerIds.size());
+			for (long customerId : tailCustomerIds) {
+				out.writeLong(customerId);
+			}
+			out.writeInt(months.size());
+			for (Map.Entry<YearMonth, Month> entry : months.entrySet()) {
+				out.writeInt(entry.getKey().getYear());
+				out.writeByte(entry.getKey().getMonthValue());
+				entry.getValue().writeTo(out);
+			}
+			allMonths.writeTo(out);
+		} catch (IOException ex) {
+			Files.deleteIfExists(temp);
+			throw ex;
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * @param path snapshot file written by {@link #writeTo(Path)}
+	 * @return the restored analytics
+	 * @throws IOException if the file cannot be read or is not a snapshot
+	 */
+	public static ProgramAnalytics readFrom(Path path) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+			if (in.readInt() != SNAPSHOT_MAGIC) {
+				throw new IOException("Not a reward analytics snapshot: " + path);
+			}
+			ProgramAnalytics analytics = new ProgramAnalytics();
+			analytics.highWaterCustomerId = in.readLong();
+			int tailCount = in.readInt();
+			for (int i = 0; i < tailCount; i++) {
+				analytics.tailCustomerIds.add(in.readLong());
+			}
+			int monthCount = in.readInt();
+			for (int i = 0; i < monthCount; i++) {
+				YearMonth month = YearMonth.of(in.readInt(), in.readByte());
+				analytics.months.put(month, Month.readFrom(in));
+			}
+			analytics.allMonths.merge(Month.readFrom(in));
+			return analytics;
+		}
+	}
+
+	/**
+	 * Aggregates for one month, or for all months.
+	 */
+	public static class Month {
+
+		private long points;
+
+		private long transactions;
+
+		private final HyperLogLog customers;
+
+		private final QuantileSketch amounts;
+
+		Month() {
+			this(new HyperLogLog(), new QuantileSketch(AMOUNT_ACCURACY, MIN_AMOUNT, MAX_AMOUNT));
+		}
+
+		private Month(HyperLogLog customers, QuantileSketch amounts) {
+			this.customers = customers;
+			this.amounts = amounts;
+		}
+
+		void add(long customerId, double amount, int points) {
+			this.points += points;
+			this.transactions++;
+			customers.add(customerId);
+			amounts.add(amount);
+		}
+
+		void merge(Month other) {
+			points += other.points;
+			transactions += other.transactions;
+			customers.merge(other.customers);
+			amounts.merge(other.amounts);
+		}
+
+		Month copy() {
+			Month copy = new Month();
+			copy.merge(this);
+			return copy;
+		}
+
+		/** Exact points issued. */
+		public long getPoints() {
+			return points;
+		}
+
+		/** Exact transaction count. */
+		public long getTransactions() {
+			return transactions;
+		}
+
+		/** Estimated distinct active customers. */
+		public long getActiveCustomers() {
+			return customers.estimate();
+		}
+
+		/**
+		 * @param quantile the quantile, from 0 to 1
+		 * @return estimated transaction amount at that quantile
+		 */
+		public double amountQuantile(double quantile) {
+			return amounts.quantile(quantile);
+		}
+
+		void writeTo(DataOutputStream out) throws IOException {
+			out.writeLong(points);
+			out.writeLong(transactions);
+			customers.writeTo(out);
+			amounts.writeTo(out);
+		}
+
+		static Month readFrom(DataInputStream in) throws IOException {
+			long points = in.readLong();
+			long transactions = in.readLong();
+			Month month = new Month(HyperLogLog.readFrom(in), QuantileSketch.readFrom(in));
+			month.points = points;
+			month.transactions = transactions;
+			return month;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.infy.analytics;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Mergeable quantile sketch with a relative-error guarantee, in the style of
+ * DDSketch.
+ * <p>
+ * Positive values are counted in logarithmic buckets whose bounds grow by a
+ * factor of {@code (1 + a) / (1 - a)}, so every quantile in
+ * {@code [minValue, maxValue]} is returned within relative error {@code a}.
+ * Values outside that range are clamped into the first or last bucket. Memory
+ * is fixed by the range and accuracy (about 10 KB for cents to a billion at
+ * 1%), and adding is constant time. Not thread-safe.
+ * </p>
+ */
+public class QuantileSketch {
+
+	private final double relativeAccuracy;
+
+	private final double minValue;
+
+	private final double maxValue;
+
+	private final double gamma;
+
+	private final double logGamma;
+
+	private final int minIndex;
+
+	private final long[] counts;
+
+	private long count;
+
+	private double min = Double.POSITIVE_INFINITY;
+
+	private double max = Double.NEGATIVE_INFINITY;
+
+	/**
+	 * @param relativeAccuracy relative error of the returned quantiles, e.g. 0.01
+	 * @param minValue         smallest value tracked exactly
+	 * @param maxValue         largest value tracked exactly
+	 */
+	public QuantileSketch(double relativeAccuracy, double minValue, double maxValue) {
+		if (relativeAccuracy <= 0 || relativeAccuracy >= 1 || minValue <= 0 || maxValue <= minValue) {
+			throw new IllegalArgumentException("Invalid quantile sketch parameters: relativeAccuracy=" + relativeAccuracy
+					+ ", minValue=" + minValue + ", maxValue=" + maxValue);
+		}
+		this.relativeAccuracy = relativeAccuracy;
+		this.minValue = minValue;
+		this.maxValue = maxValue;
+		this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+		this.logGamma = Math.log(gamma);
+		this.minIndex = rawIndex(minValue);
+		this.counts = new long[rawIndex(maxValue) - minIndex + 1];
+	}
+
+	/**
+	 * Adds a value.
+	 *
+	 * @param value the value, e.g. a transaction amount
+	 */
+	public void add(double value) {
+		double clamped = Math.min(maxValue, Math.max(minValue, value));
+		counts[rawIndex(clamped) - minIndex]++;
+		count++;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * Adds every value counted by another sketch with the same parameters.
+	 *
+	 * @param other the other sketch
+	 */
+	public void merge(QuantileSketch other) {
+		if (other.relativeAccuracy != relativeAccuracy || other.minValue != minValue || other.maxValue != maxValue) {
+			throw new IllegalArgumentException("Cannot merge quantile sketches with different parameters");
+		}
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += other.counts[i];
+		}
+		count += other.count;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * @param quantile the quantile, from 0 to 1
+	 * @return the estimated value at that quantile, or 0 if the sketch is empty
+	 */
+	public double quantile(double quantile) {
+		if (count == 0) {
+			return 0;
+		}
+		long rank = (long) (quantile * (count - 1));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen > rank) {
+				double estimate = 2 * Math.pow(gamma, i + minIndex) / (gamma + 1);
+				return Math.min(max, Math.max(min, estimate));
+			}
+		}
+		return max;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public QuantileSketch copy() {
+		QuantileSketch copy = new QuantileSketch(relativeAccuracy, minValue, maxValue);
+		copy.merge(this);
+		return copy;
+	}
+
+	public void writeTo(DataOutput out) throws IOException {
+		out.writeDouble(relativeAccuracy);
+		out.writeDouble(minValue);
+		out.writeDouble(maxValue);
+		out.writeLong(count);
+		out.writeDouble(min);
+		out.writeDouble(max);
+		for (long bucket : counts) {
+			out.writeLong(bucket);
+		}
+	}
+
+	public static QuantileSketch readFrom(DataInput in) throws IOException {
+		QuantileSketch sketch = new QuantileSketch(in.readDouble(), in.readDouble(), in.readDouble());
+		sketch.count = in.readLong();
+		sketch.min = in.readDouble();
+		sketch.max = in.readDouble();
+		for (int i = 0; i < sketch.counts.length; i++) {
+			sketch.counts[i] = in.readLong();
+		}
+		return sketch;
+	}
+
+	private int rawIndex(double value) {
+		return (int) Math.ceil(Math.log(value) / logGamma);
+	}
+}
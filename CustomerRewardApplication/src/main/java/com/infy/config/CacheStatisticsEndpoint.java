@@ -0,0 +1,53 @@
+package com.infy.config;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Actuator endpoint exposing Hibernate second-level cache statistics for the
+ * {@code customer} region at {@code /actuator/cachestats}.
+ */
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatisticsEndpoint {
+
+	static final String CUSTOMER_REGION = "customer";
+
+	private final Statistics statistics;
+
+	public CacheStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+		this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	/**
+	 * Returns hit, miss and put counts, the hit ratio and the in-memory element
+	 * count of the customer region.
+	 *
+	 * @return region statistics, or a map with only the region name if caching is
+	 *         disabled
+	 */
+	@ReadOperation
+	public Map<String, Object> customerRegion() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("region", CUSTOMER_REGION);
+
+		CacheRegionStatistics region = statistics.getCacheRegionStatistics(CUSTOMER_REGION);
+		if (region == null) {
+			return result;
+		}
+		long hits = region.getHitCount();
+		long misses = region.getMissCount();
+		result.put("hits", hits);
+		result.put("misses", misses);
+		result.put("puts", region.getPutCount());
+		result.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+		result.put("elementsInMemory", region.getElementCountInMemory());
+		return result;
+	}
+}
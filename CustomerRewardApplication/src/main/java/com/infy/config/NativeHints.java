@@ -0,0 +1,81 @@
+package com.infy.config;
+import java.util.List;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.interceptor.TransactionalProxy;
+import org.springframework.util.ClassUtils;
+import com.infy.exception.ErrorDetails;
+import com.infy.logging.SamplingTurboFilter;
+
+/**
+ * Reflection, proxy and resource hints for the GraalVM native image.
+ * <p>
+ * Spring AOT covers most of the context; this adds what it cannot infer: the
+ * Lombok-generated accessors Jackson and Hibernate reach reflectively, the
+ * repository JDK proxies, the Logback filter instantiated by class name, and
+ * the springdoc / Swagger UI static resources.
+ * </p>
+ * <p>
+ * Entities, DTOs and repositories are found by scanning their packages when
+ * the AOT build runs, so new ones are covered without editing this class.
+ * </p>
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+	private static final String[] BOUND_PACKAGES = { "com.infy.model", "com.infy.dto" };
+
+	private static final String REPOSITORY_PACKAGE = "com.infy.repository";
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		for (String boundPackage : BOUND_PACKAGES) {
+			scan(boundPackage, false, classLoader).forEach(type -> registerBound(hints, type));
+		}
+		registerBound(hints, ErrorDetails.class);
+
+		for (Class<?> repository : scan(REPOSITORY_PACKAGE, true, classLoader)) {
+			hints.proxies().registerJdkProxy(
+					AopProxyUtils.completeJdkProxyInterfaces(repository, Repository.class, TransactionalProxy.class));
+		}
+
+		hints.reflection().registerType(SamplingTurboFilter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+				MemberCategory.INVOKE_PUBLIC_METHODS);
+		hints.resources().registerPattern("logback-spring.xml");
+		hints.resources().registerPattern("ehcache.xml");
+
+		hints.reflection().registerType(TypeReference.of("org.springdoc.core.properties.SwaggerUiConfigProperties"),
+				MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+		hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+		hints.resources().registerPattern("META-INF/maven/org.webjars/swagger-ui/pom.properties");
+	}
+
+	private static void registerBound(RuntimeHints hints, Class<?> type) {
+		hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+				MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+	}
+
+	/**
+	 * Finds the classes, including static nested ones, or the interfaces in a
+	 * package.
+	 */
+	private static List<Class<?>> scan(String basePackage, boolean interfaces, ClassLoader classLoader) {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+				return definition.getMetadata().isIndependent() && definition.getMetadata().isInterface() == interfaces;
+			}
+		};
+		scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+		scanner.addIncludeFilter((reader, factory) -> true);
+		return scanner.findCandidateComponents(basePackage).stream()
+				.<Class<?>>map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader))
+				.toList();
+	}
+}
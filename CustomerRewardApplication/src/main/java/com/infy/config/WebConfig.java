@@ -0,0 +1,41 @@
+package com.infy.config;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC configuration for binary content negotiation.
+ * <p>
+ * Registers Jackson Smile and CBOR converters built from Spring Boot's
+ * {@link Jackson2ObjectMapperBuilder}, so binary payloads use the same date and
+ * property settings as JSON. They are appended after the JSON converter, which
+ * keeps JSON the default when the client does not ask for a binary format.
+ * </p>
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+	public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+	public static final String APPLICATION_CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+
+	private final ObjectProvider<Jackson2ObjectMapperBuilder> builderProvider;
+
+	public WebConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builderProvider) {
+		this.builderProvider = builderProvider;
+	}
+
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+				|| converter instanceof MappingJackson2CborHttpMessageConverter);
+		converters.add(new MappingJackson2SmileHttpMessageConverter(builderProvider.getObject().smile().build()));
+		converters.add(new MappingJackson2CborHttpMessageConverter(builderProvider.getObject().cbor().build()));
+	}
+}
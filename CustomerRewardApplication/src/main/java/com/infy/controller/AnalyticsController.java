@@ -0,0 +1,44 @@
+package com.infy.controller;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.infy.dto.RewardAnalyticsDto;
+import com.infy.service.RewardAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * REST controller for program-wide reward analytics.
+ * <p>
+ * Serves finance totals across all customers from incrementally maintained
+ * counters and sketches, without querying the database.
+ * </p>
+ */
+@Tag(name = "Reward Analytics API", description = "Program-wide reward totals across all customers")
+@RestController
+@RequestMapping("/api/rewards/analytics")
+public class AnalyticsController {
+
+	@Autowired
+	private RewardAnalyticsService analyticsService;
+
+	/**
+	 * Retrieves points issued, distinct active customers and transaction amount
+	 * percentiles per month and in total.
+	 *
+	 * @return ResponseEntity containing the analytics
+	 */
+	@Operation(summary = "Get program-wide reward analytics", description = "Exact points per month, estimated distinct active customers and p50/p95/p99 transaction amounts.", responses = {
+			@ApiResponse(responseCode = "200", description = "Analytics returned", content = @Content(schema = @Schema(implementation = RewardAnalyticsDto.class))) })
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<RewardAnalyticsDto> getAnalytics() {
+		return new ResponseEntity<>(analyticsService.getAnalytics(), HttpStatus.OK);
+	}
+}
@@ -8,14 +8,17 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import com.infy.config.WebConfig;
 import com.infy.dto.CustomerDto;
 import com.infy.exception.InvalidRequestException;
 import com.infy.model.Customer;
@@ -35,6 +38,10 @@ import jakarta.validation.Valid;
  * Provides endpoints to create new customers with their transaction history and
  * to retrieve reward points earned by a customer within a specified date range.
  * </p>
+ * <p>
+ * Both endpoints negotiate JSON (default), Jackson Smile and CBOR through the
+ * {@code Accept} and {@code Content-Type} headers.
+ * </p>
  */
 @Tag(name = "Customer Rewards API", description = "Operations related to customer rewards and transactions")
 @RestController
@@ -43,14 +50,19 @@ public class RewardsController {
 
 	private static final Logger logger = LoggerFactory.getLogger(RewardsController.class);
 
+	static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
 	@Autowired
 	private RewardsService rewardsService;
 
 	/**
-	 * Creates a new customer along with their transaction history.
+	 * Creates a new customer along with their transaction history. Resubmitting
+	 * the same payload, or the same {@code Idempotency-Key}, returns the
+	 * originally saved customer instead of storing it again.
 	 *
-	 * @param customerDto the data transfer object containing customer name and
-	 *                    transaction list
+	 * @param customerDto    the data transfer object containing customer name and
+	 *                       transaction list
+	 * @param idempotencyKey optional client-supplied idempotency key
 	 * @return ResponseEntity containing the saved customer and HTTP status 201
 	 *         (Created)
 	 * @throws InvalidRequestException if the input customer data is missing or
@@ -59,11 +71,15 @@ public class RewardsController {
 	@Operation(summary = "Add a new customer with transactions", description = "Creates a new customer and saves their transaction history.", responses = {
 			@ApiResponse(responseCode = "201", description = "Customer created successfully", content = @Content(schema = @Schema(implementation = Customer.class))),
 			@ApiResponse(responseCode = "400", description = "Invalid input", content = @Content) })
-	@PostMapping(consumes = "application/json", produces = "application/json")
+	@PostMapping(consumes = { MediaType.APPLICATION_JSON_VALUE, WebConfig.APPLICATION_SMILE_VALUE,
+			WebConfig.APPLICATION_CBOR_VALUE }, produces = { MediaType.APPLICATION_JSON_VALUE,
+					WebConfig.APPLICATION_SMILE_VALUE, WebConfig.APPLICATION_CBOR_VALUE })
 	public ResponseEntity<?> addCustomer(
-			@Valid @RequestBody @Parameter(description = "Customer data with transactions", required = true) CustomerDto customerDto) {
+			@Valid @RequestBody @Parameter(description = "Customer data with transactions", required = true) CustomerDto customerDto,
+			@Parameter(description = "Client key for safe retries; defaults to a hash of the payload") @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 		Customer customer = new Customer();
 		customer.setCustomerName(customerDto.getCustomerName());
+		customer.setIdempotencyKey(idempotencyKey);
 
 		List<Transaction> customerTransactions = customerDto.getTransaction().stream().map(dto -> {
 			Transaction t = new Transaction();
@@ -77,7 +93,7 @@ public class RewardsController {
 
 		logger.debug("Adding Customer : {}", customer);
 		Customer savedCustomer = rewardsService.saveCustomer(customer);
-		logger.info("Customer added successfully : {}", savedCustomer);
+		logger.info("Customer added successfully : {}", savedCustomer.getCustomerId());
 		return new ResponseEntity<>(savedCustomer, HttpStatus.CREATED);
 	}
 
@@ -94,7 +110,8 @@ public class RewardsController {
 			@ApiResponse(responseCode = "200", description = "Rewards calculated successfully", content = @Content(schema = @Schema(implementation = Map.class))),
 			@ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
 			@ApiResponse(responseCode = "404", description = "Customer not found", content = @Content) })
-	@GetMapping(value = "/{customerId}/rewards", produces = "application/json")
+	@GetMapping(value = "/{customerId}/rewards", produces = { MediaType.APPLICATION_JSON_VALUE,
+			WebConfig.APPLICATION_SMILE_VALUE, WebConfig.APPLICATION_CBOR_VALUE })
 	public ResponseEntity<?> getRewards(
 			@Parameter(description = "Customer ID", required = true) @PathVariable Long customerId,
 			@Parameter(description = "Start date (yyyy-MM-dd)", required = true, example = "2024-01-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
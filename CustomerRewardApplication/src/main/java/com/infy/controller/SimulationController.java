@@ -0,0 +1,76 @@
+package com.infy.controller;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.infy.dto.SimulationRequestDto;
+import com.infy.dto.SimulationResultDto;
+import com.infy.service.RewardSimulationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+/**
+ * REST controller for "what-if" reward rule simulations.
+ * <p>
+ * Lets finance evaluate candidate tier parameters against the current rules
+ * over the full transaction history before changing them. Simulations are
+ * read-only and run in the background; clients poll for the result.
+ * </p>
+ */
+@Tag(name = "Reward Simulation API", description = "Simulate candidate reward rules over the transaction history")
+@RestController
+@RequestMapping("/api/rewards/simulations")
+public class SimulationController {
+
+	private static final Logger logger = LoggerFactory.getLogger(SimulationController.class);
+
+	@Autowired
+	private RewardSimulationService simulationService;
+
+	/**
+	 * Starts a simulation of candidate reward rules.
+	 *
+	 * @param request candidate tier parameters and optional bucket bounds
+	 * @return ResponseEntity containing the running simulation and HTTP status 202
+	 *         (Accepted)
+	 */
+	@Operation(summary = "Start a reward rule simulation", description = "Evaluates candidate tiers against the current rules over every transaction.", responses = {
+			@ApiResponse(responseCode = "202", description = "Simulation started", content = @Content(schema = @Schema(implementation = SimulationResultDto.class))),
+			@ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
+			@ApiResponse(responseCode = "409", description = "Another simulation is running", content = @Content) })
+	@PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<SimulationResultDto> startSimulation(
+			@Valid @RequestBody @Parameter(description = "Candidate reward tiers", required = true) SimulationRequestDto request) {
+		SimulationResultDto simulation = simulationService.startSimulation(request);
+		logger.info("Simulation started : {}", simulation.getSimulationId());
+		return new ResponseEntity<>(simulation, HttpStatus.ACCEPTED);
+	}
+
+	/**
+	 * Retrieves the state of a simulation, including its result once completed.
+	 *
+	 * @param simulationId the simulation ID returned when it was started
+	 * @return ResponseEntity containing the simulation state
+	 */
+	@Operation(summary = "Get a reward rule simulation", description = "Returns the status and, once completed, the per-month and per-bucket point deltas.", responses = {
+			@ApiResponse(responseCode = "200", description = "Simulation found", content = @Content(schema = @Schema(implementation = SimulationResultDto.class))),
+			@ApiResponse(responseCode = "404", description = "Simulation not found", content = @Content) })
+	@GetMapping(value = "/{simulationId}", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<SimulationResultDto> getSimulation(
+			@Parameter(description = "Simulation ID", required = true) @PathVariable String simulationId) {
+		return new ResponseEntity<>(simulationService.getSimulation(simulationId), HttpStatus.OK);
+	}
+}
@@ -0,0 +1,53 @@
+package com.infy.dto;
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for program-wide reward analytics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RewardAnalyticsDto {
+
+	/** Largest customer ID included in the figures. */
+	private long lastCustomerId;
+
+	/** When the analytics were last written to disk, or null if never. */
+	private Instant lastSnapshotAt;
+
+	private MonthSummary total;
+
+	private List<MonthSummary> byMonth;
+
+	/**
+	 * Figures for one month, or for all months.
+	 */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class MonthSummary {
+
+		/** Month (yyyy-MM) or "ALL". */
+		private String month;
+
+		/** Exact points issued. */
+		private long points;
+
+		/** Exact number of transactions. */
+		private long transactions;
+
+		/** Distinct customers with a transaction, estimated (about 0.8% error). */
+		private long activeCustomers;
+
+		/** Transaction amount percentiles, estimated (within 1%). */
+		private double p50Amount;
+
+		private double p95Amount;
+
+		private double p99Amount;
+	}
+}
@@ -0,0 +1,38 @@
+package com.infy.dto;
+import java.util.List;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for candidate reward tier parameters to simulate.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationRequestDto {
+
+	@NotNull(message = "Lower threshold cannot be null")
+	@PositiveOrZero(message = "Lower threshold cannot be negative")
+	private Double lowerThreshold;
+
+	@NotNull(message = "Upper threshold cannot be null")
+	@PositiveOrZero(message = "Upper threshold cannot be negative")
+	private Double upperThreshold;
+
+	@NotNull(message = "Lower rate cannot be null")
+	@PositiveOrZero(message = "Lower rate cannot be negative")
+	private Double lowerRate;
+
+	@NotNull(message = "Upper rate cannot be null")
+	@PositiveOrZero(message = "Upper rate cannot be negative")
+	private Double upperRate;
+
+	/**
+	 * Optional ascending lower bounds (by points under the current rules) of the
+	 * customer buckets; defaults to 0, 100, 500, 1000, 5000.
+	 */
+	private List<Long> bucketBounds;
+}
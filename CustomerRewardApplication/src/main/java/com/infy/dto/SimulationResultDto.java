@@ -0,0 +1,62 @@
+package com.infy.dto;
+import java.util.List;
+import com.infy.service.RewardRules;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the state and outcome of a reward rule simulation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationResultDto {
+
+	public enum Status {
+		RUNNING, COMPLETED, FAILED
+	}
+
+	private String simulationId;
+
+	private Status status;
+
+	private String error;
+
+	private RewardRules currentRules;
+
+	private RewardRules candidateRules;
+
+	private long transactionsScanned;
+
+	private long customersScanned;
+
+	private long elapsedMillis;
+
+	private PointsDelta total;
+
+	private List<PointsDelta> byMonth;
+
+	private List<PointsDelta> byCustomerBucket;
+
+	/**
+	 * Points under the current and candidate rules for one slice of the history.
+	 */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class PointsDelta {
+
+		/** Month (yyyy-MM), bucket label (e.g. "100-499") or "ALL". */
+		private String key;
+
+		/** Transactions in a month slice, customers in a bucket slice. */
+		private long count;
+
+		private long currentPoints;
+
+		private long candidatePoints;
+
+		private long delta;
+	}
+}
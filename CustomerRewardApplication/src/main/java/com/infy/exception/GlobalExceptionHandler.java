@@ -37,6 +37,36 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
 	}
 
+	/**
+	 * Handles SimulationNotFoundException with HTTP 404 Not Found.
+	 *
+	 * @param ex      the exception thrown
+	 * @param request the web request context
+	 * @return ResponseEntity with error details and 404 status
+	 */
+	@ExceptionHandler(SimulationNotFoundException.class)
+	public ResponseEntity<ErrorDetails> handleSimulationNotFoundException(SimulationNotFoundException ex,
+			WebRequest request) {
+		ErrorDetails errorDetails = new ErrorDetails(HttpStatus.NOT_FOUND.value(), ex.getMessage(),
+				request.getDescription(false));
+		return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
+	}
+
+	/**
+	 * Handles SimulationInProgressException with HTTP 409 Conflict.
+	 *
+	 * @param ex      the exception thrown
+	 * @param request the web request context
+	 * @return ResponseEntity with error details and 409 status
+	 */
+	@ExceptionHandler(SimulationInProgressException.class)
+	public ResponseEntity<ErrorDetails> handleSimulationInProgressException(SimulationInProgressException ex,
+			WebRequest request) {
+		ErrorDetails errorDetails = new ErrorDetails(HttpStatus.CONFLICT.value(), ex.getMessage(),
+				request.getDescription(false));
+		return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+	}
+
 	/**
 	 * Handles InvalidRequestException with HTTP 400 Bad Request.
 	 *
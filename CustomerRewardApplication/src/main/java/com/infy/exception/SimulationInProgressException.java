@@ -0,0 +1,19 @@
+package com.infy.exception;
+
+/**
+ * Exception thrown when a reward rule simulation is started while another one
+ * is still running.
+ */
+public class SimulationInProgressException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructs a new SimulationInProgressException with the given message.
+	 *
+	 * @param message the exception message
+	 */
+	public SimulationInProgressException(String message) {
+		super(message);
+	}
+}
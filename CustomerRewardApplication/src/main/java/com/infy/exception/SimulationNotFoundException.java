@@ -0,0 +1,18 @@
+package com.infy.exception;
+
+/**
+ * Exception thrown when a reward rule simulation ID is unknown or has expired.
+ */
+public class SimulationNotFoundException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructs a new SimulationNotFoundException with the given message.
+	 *
+	 * @param message the exception message
+	 */
+	public SimulationNotFoundException(String message) {
+		super(message);
+	}
+}
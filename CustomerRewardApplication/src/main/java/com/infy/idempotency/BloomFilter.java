@@ -0,0 +1,94 @@
+package com.infy.idempotency;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * <p>
+ * {@link #mightContain(String)} never returns false for a key that was
+ * {@link #put(String) put}; it returns true for an absent key with roughly the
+ * configured false-positive probability once the expected number of keys has
+ * been inserted. Uses Kirsch-Mitzenmacher double hashing over two 64-bit
+ * hashes of the key's UTF-8 bytes.
+ * </p>
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+
+	private final long bitCount;
+
+	private final int hashCount;
+
+	/**
+	 * @param expectedInsertions number of keys the filter is sized for
+	 * @param falsePositiveRate  target false-positive probability at that size
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("Invalid Bloom filter sizing: expectedInsertions=" + expectedInsertions
+					+ ", falsePositiveRate=" + falsePositiveRate);
+		}
+		long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.min(Integer.MAX_VALUE, (optimalBits + 63) / 64);
+		this.bits = new AtomicLongArray(words);
+		this.bitCount = (long) words * 64;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+	}
+
+	/**
+	 * Adds a key.
+	 *
+	 * @param key the key
+	 */
+	public void put(String key) {
+		long[] hashes = hash(key);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+			int word = (int) (index >>> 6);
+			long mask = 1L << index;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	/**
+	 * @param key the key
+	 * @return false if the key was definitely never added
+	 */
+	public boolean mightContain(String key) {
+		long[] hashes = hash(key);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long[] hash(String key) {
+		long h1 = 0xcbf29ce484222325L;
+		for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+		}
+		long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L);
+		h1 = mix(h1);
+		return new long[] { h1, h2 | 1 };
+	}
+
+	/** MurmurHash3 64-bit finalizer. */
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -0,0 +1,69 @@
+package com.infy.idempotency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory index of the idempotency keys already stored on customers.
+ * <p>
+ * Backed by a {@link BloomFilter} rebuilt from the {@code customer} table on
+ * startup. A miss means the payload is new and ingestion can skip the
+ * duplicate lookup; a hit (real or false positive) falls back to the database.
+ * The unique constraint on {@code idempotency_key} stays the source of truth,
+ * so requests arriving before the rebuild finishes are still deduplicated.
+ * </p>
+ */
+@Component
+public class IdempotencyKeyIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(IdempotencyKeyIndex.class);
+
+	private static final String KEYS_SQL = "SELECT idempotency_key FROM customer WHERE idempotency_key IS NOT NULL";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final BloomFilter filter;
+
+	public IdempotencyKeyIndex(JdbcTemplate jdbcTemplate,
+			@Value("${rewards.idempotency.expected-keys:10000000}") long expectedKeys,
+			@Value("${rewards.idempotency.false-positive-rate:0.01}") double falsePositiveRate) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.filter = new BloomFilter(expectedKeys, falsePositiveRate);
+	}
+
+	/**
+	 * Loads every stored key into the filter once the context (and Flyway) is up.
+	 */
+	@EventListener(ApplicationStartedEvent.class)
+	public void rebuild() {
+		long start = System.nanoTime();
+		long[] count = { 0 };
+		jdbcTemplate.query(KEYS_SQL, (RowCallbackHandler) rs -> {
+			filter.put(rs.getString(1));
+			count[0]++;
+		});
+		logger.info("Idempotency index rebuilt with {} keys in {} ms", count[0], (System.nanoTime() - start) / 1_000_000);
+	}
+
+	/**
+	 * @param key idempotency key
+	 * @return false if no customer can have been stored with this key
+	 */
+	public boolean mightContain(String key) {
+		return filter.mightContain(key);
+	}
+
+	/**
+	 * Records a key that has been (or is about to be) stored.
+	 *
+	 * @param key idempotency key
+	 */
+	public void add(String key) {
+		filter.put(key);
+	}
+}
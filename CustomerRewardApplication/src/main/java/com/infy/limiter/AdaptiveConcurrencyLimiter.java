@@ -0,0 +1,145 @@
+package com.infy.limiter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency-driven concurrency limit for one class of requests.
+ * <p>
+ * The limit follows a gradient rule: a long-term moving average of request
+ * latency is compared with each new sample, and the limit shrinks when latency
+ * rises above {@code tolerance} times that baseline and grows by a small queue
+ * allowance while it stays below. Failed or timed-out requests cut the limit
+ * multiplicatively (the AIMD backoff). Requests beyond the current limit are
+ * rejected instead of queued.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	private static final double BACKOFF_RATIO = 0.9;
+
+	private static final double SMOOTHING = 0.2;
+
+	private static final int LONG_WINDOW = 600;
+
+	private final String name;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final double tolerance;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicLong shed = new AtomicLong();
+
+	private double estimatedLimit;
+
+	private double longRttNanos;
+
+	private volatile int limit;
+
+	/**
+	 * @param name         label used in metrics
+	 * @param initialLimit starting concurrency limit
+	 * @param minLimit     lower bound for the limit
+	 * @param maxLimit     upper bound for the limit
+	 * @param tolerance    latency increase over the baseline tolerated before the
+	 *                     limit shrinks (e.g. 2.0 allows twice the baseline)
+	 */
+	public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double tolerance) {
+		if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+			throw new IllegalArgumentException("Invalid limits for " + name + ": initial=" + initialLimit + ", min="
+					+ minLimit + ", max=" + maxLimit);
+		}
+		this.name = name;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.tolerance = tolerance;
+		this.estimatedLimit = initialLimit;
+		this.limit = initialLimit;
+	}
+
+	/**
+	 * Claims a slot if fewer than {@link #getLimit()} requests are in flight.
+	 *
+	 * @return true if the request may proceed; it must then call
+	 *         {@link #release(long, boolean)}
+	 */
+	public boolean tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= limit) {
+				shed.incrementAndGet();
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Counts a request as shed without it having tried to acquire a slot, e.g.
+	 * when it was rejected in favour of higher-priority traffic.
+	 */
+	public void recordShed() {
+		shed.incrementAndGet();
+	}
+
+	/**
+	 * Releases a slot and feeds the observed latency into the limit.
+	 *
+	 * @param latencyNanos request latency
+	 * @param dropped      true if the request failed or timed out
+	 */
+	public void release(long latencyNanos, boolean dropped) {
+		int inFlightAtRelease = inFlight.getAndDecrement();
+		update(latencyNanos, dropped, inFlightAtRelease);
+	}
+
+	private synchronized void update(long latencyNanos, boolean dropped, int inFlightAtRelease) {
+		double newLimit;
+		if (dropped) {
+			newLimit = estimatedLimit * BACKOFF_RATIO;
+		} else {
+			longRttNanos = longRttNanos == 0 ? latencyNanos
+					: longRttNanos + (latencyNanos - longRttNanos) / LONG_WINDOW;
+
+			// Do not grow the limit while it is not being used
+			if (inFlightAtRelease * 2 < estimatedLimit) {
+				return;
+			}
+
+			double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / latencyNanos));
+			double queueSize = Math.sqrt(estimatedLimit);
+			newLimit = estimatedLimit * gradient + queueSize;
+			newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+		}
+		estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+		limit = (int) estimatedLimit;
+	}
+
+	/**
+	 * @return current fraction of the limit in use
+	 */
+	public double utilization() {
+		return (double) inFlight.get() / limit;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public long getShedCount() {
+		return shed.get();
+	}
+}
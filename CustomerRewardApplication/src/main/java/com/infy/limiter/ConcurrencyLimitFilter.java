@@ -0,0 +1,80 @@
+package com.infy.limiter;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infy.exception.ErrorDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet filter that sheds load in front of the rewards API.
+ * <p>
+ * GET requests go through the read limiter and everything else through the
+ * write limiter. Reads have priority: writes are also shed while the read
+ * limiter is above {@code writeYieldThreshold} utilization, so ingestion bursts
+ * back off before they starve rewards lookups of threads and connections.
+ * Rejected requests get an immediate 503 with {@code Retry-After}.
+ * </p>
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+	private final AdaptiveConcurrencyLimiter readLimiter;
+
+	private final AdaptiveConcurrencyLimiter writeLimiter;
+
+	private final double writeYieldThreshold;
+
+	private final String retryAfterSeconds;
+
+	private final ObjectMapper objectMapper;
+
+	public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter readLimiter, AdaptiveConcurrencyLimiter writeLimiter,
+			double writeYieldThreshold, int retryAfterSeconds, ObjectMapper objectMapper) {
+		this.readLimiter = readLimiter;
+		this.writeLimiter = writeLimiter;
+		this.writeYieldThreshold = writeYieldThreshold;
+		this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		boolean read = HttpMethod.GET.matches(request.getMethod());
+		AdaptiveConcurrencyLimiter limiter = read ? readLimiter : writeLimiter;
+
+		if (!read && readLimiter.utilization() >= writeYieldThreshold) {
+			limiter.recordShed();
+			reject(request, response);
+			return;
+		}
+		if (!limiter.tryAcquire()) {
+			reject(request, response);
+			return;
+		}
+
+		long start = System.nanoTime();
+		boolean dropped = true;
+		try {
+			filterChain.doFilter(request, response);
+			dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+		} finally {
+			limiter.release(System.nanoTime() - start, dropped);
+		}
+	}
+
+	private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		ErrorDetails errorDetails = new ErrorDetails(HttpStatus.SERVICE_UNAVAILABLE.value(),
+				"Server is busy, please retry later", "uri=" + request.getRequestURI());
+		objectMapper.writeValue(response.getOutputStream(), errorDetails);
+	}
+}
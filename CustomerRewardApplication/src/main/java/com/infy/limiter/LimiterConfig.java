@@ -0,0 +1,63 @@
+package com.infy.limiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wires the read and write concurrency limiters in front of
+ * {@code /api/customers/*} and exposes their state as metrics:
+ * {@code rewards.limiter.limit}, {@code rewards.limiter.inflight} and
+ * {@code rewards.limiter.shed}, each tagged with {@code endpoint=read|write}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "rewards.limiter.enabled", havingValue = "true", matchIfMissing = true)
+public class LimiterConfig {
+
+	@Bean
+	public AdaptiveConcurrencyLimiter readLimiter(MeterRegistry registry,
+			@Value("${rewards.limiter.read.initial-limit:40}") int initialLimit,
+			@Value("${rewards.limiter.read.min-limit:4}") int minLimit,
+			@Value("${rewards.limiter.read.max-limit:180}") int maxLimit,
+			@Value("${rewards.limiter.tolerance:2.0}") double tolerance) {
+		return register(registry, new AdaptiveConcurrencyLimiter("read", initialLimit, minLimit, maxLimit, tolerance));
+	}
+
+	@Bean
+	public AdaptiveConcurrencyLimiter writeLimiter(MeterRegistry registry,
+			@Value("${rewards.limiter.write.initial-limit:10}") int initialLimit,
+			@Value("${rewards.limiter.write.min-limit:2}") int minLimit,
+			@Value("${rewards.limiter.write.max-limit:60}") int maxLimit,
+			@Value("${rewards.limiter.tolerance:2.0}") double tolerance) {
+		return register(registry, new AdaptiveConcurrencyLimiter("write", initialLimit, minLimit, maxLimit, tolerance));
+	}
+
+	@Bean
+	public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+			AdaptiveConcurrencyLimiter readLimiter, AdaptiveConcurrencyLimiter writeLimiter, ObjectMapper objectMapper,
+			@Value("${rewards.limiter.write-yield-threshold:0.8}") double writeYieldThreshold,
+			@Value("${rewards.limiter.retry-after-seconds:1}") int retryAfterSeconds) {
+		FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+				new ConcurrencyLimitFilter(readLimiter, writeLimiter, writeYieldThreshold, retryAfterSeconds,
+						objectMapper));
+		registration.addUrlPatterns("/api/customers", "/api/customers/*");
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+		return registration;
+	}
+
+	private static AdaptiveConcurrencyLimiter register(MeterRegistry registry, AdaptiveConcurrencyLimiter limiter) {
+		Gauge.builder("rewards.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+				.tag("endpoint", limiter.getName()).description("Current adaptive concurrency limit").register(registry);
+		Gauge.builder("rewards.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+				.tag("endpoint", limiter.getName()).description("Requests currently in flight").register(registry);
+		FunctionCounter.builder("rewards.limiter.shed", limiter, AdaptiveConcurrencyLimiter::getShedCount)
+				.tag("endpoint", limiter.getName()).description("Requests rejected with 503").register(registry);
+		return limiter;
+	}
+}
@@ -0,0 +1,75 @@
+package com.infy.logging;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Marker;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Logback turbo filter that keeps only one in every {@code rate} events of a
+ * given level for loggers under a given name prefix.
+ * <p>
+ * Only enabled logging calls at exactly that level advance the counter, so
+ * disabled calls and {@code isInfoEnabled()}-style guards do not skew the rate.
+ * </p>
+ * <p>
+ * Runs before the logging event is created, so dropped lines cost neither
+ * message formatting nor a slot in the async appender queue. Events above the
+ * sampled level (e.g. WARN and ERROR when sampling INFO) always pass.
+ * </p>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+	private final AtomicLong counter = new AtomicLong();
+
+	private String loggerName = "";
+
+	private Level level = Level.INFO;
+
+	private int rate = 1;
+
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params,
+			Throwable t) {
+		// Only count calls that would really log at the sampled level: turbo filters
+		// also see disabled calls and isXxxEnabled() checks (format == null).
+		if (rate <= 1 || eventLevel == null || format == null || eventLevel.toInt() != level.toInt()
+				|| !eventLevel.isGreaterOrEqual(logger.getEffectiveLevel())
+				|| !logger.getName().startsWith(loggerName)) {
+			return FilterReply.NEUTRAL;
+		}
+		return counter.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+	}
+
+	@Override
+	public void start() {
+		if (rate < 1) {
+			addError("Sampling rate must be at least 1 for logger prefix '" + loggerName + "'");
+			return;
+		}
+		super.start();
+	}
+
+	/**
+	 * @param loggerName logger name prefix the sampling applies to
+	 */
+	public void setLoggerName(String loggerName) {
+		this.loggerName = loggerName;
+	}
+
+	/**
+	 * @param level level that is sampled; more severe events always pass and
+	 *              less severe ones are left to the logger level
+	 */
+	public void setLevel(String level) {
+		this.level = Level.toLevel(level, Level.INFO);
+	}
+
+	/**
+	 * @param rate keep one event out of every {@code rate}
+	 */
+	public void setRate(int rate) {
+		this.rate = rate;
+	}
+}
@@ -1,6 +1,11 @@
 package com.infy.model;
 import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -12,8 +17,14 @@ import lombok.NoArgsConstructor;
 
 /**
  * Entity representing a customer in the system.
+ * <p>
+ * Cached in the bounded {@code customer} second-level cache region (see
+ * {@code ehcache.xml}); the transaction collection is intentionally not cached.
+ * </p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customer")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,9 +36,15 @@ public class Customer {
 
 	private String customerName;
 
+	// No @Cache here: a collection region would keep unbounded history on the heap.
 	@OneToMany(mappedBy = "customer", cascade = CascadeType.ALL)
 	private List<Transaction> transaction;
 
+	// Set from the Idempotency-Key header or a payload hash; never part of the API.
+	@JsonIgnore
+	@Column(unique = true, length = 100)
+	private String idempotencyKey;
+
 	@Override
 	public String toString() {
 		return "Customer{id=" + customerId + ", name=" + customerName + "}";
@@ -0,0 +1,49 @@
+package com.infy.model;
+import java.time.Instant;
+import java.time.LocalDate;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity representing a reward event waiting in the transactional outbox.
+ * <p>
+ * Written in the same transaction as the customer and its transactions, then
+ * published by the outbox relay, which sets {@code publishedAt}.
+ * </p>
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_unpublished", columnList = "publishedAt, id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+	public static final String POINTS_EARNED = "POINTS_EARNED";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	private String eventType;
+
+	private Long customerId;
+
+	private Long transactionId;
+
+	private double amount;
+
+	private LocalDate transactionDate;
+
+	private int points;
+
+	private Instant createdAt;
+
+	private Instant publishedAt;
+}
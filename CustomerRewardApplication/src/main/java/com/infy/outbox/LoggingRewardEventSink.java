@@ -0,0 +1,23 @@
+package com.infy.outbox;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.infy.model.OutboxEvent;
+
+/**
+ * Local sink that writes each event as one line to the
+ * {@code com.infy.outbox.events} logger (logs/RewardEvents.log).
+ */
+public class LoggingRewardEventSink implements RewardEventSink {
+
+	private static final Logger eventLog = LoggerFactory.getLogger("com.infy.outbox.events");
+
+	@Override
+	public void publish(List<OutboxEvent> events) {
+		for (OutboxEvent event : events) {
+			eventLog.info("{} id={} customerId={} transactionId={} amount={} date={} points={}", event.getEventType(),
+					event.getId(), event.getCustomerId(), event.getTransactionId(), event.getAmount(),
+					event.getTransactionDate(), event.getPoints());
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.infy.outbox;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Outbox wiring. Enables the scheduled {@link OutboxRelay}; the relay falls
+ * back to {@link LoggingRewardEventSink} unless the application defines its own
+ * {@link RewardEventSink} bean.
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+}
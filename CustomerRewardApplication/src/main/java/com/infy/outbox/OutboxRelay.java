@@ -0,0 +1,101 @@
+package com.infy.outbox;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.infy.model.OutboxEvent;
+import com.infy.repository.OutboxEventRepository;
+
+/**
+ * Background relay that drains the outbox in batches and hands them to the
+ * configured {@link RewardEventSink}, or to {@link LoggingRewardEventSink} when
+ * the application defines none.
+ * <p>
+ * Each poll claims up to {@code rewards.outbox.batch-size} rows with
+ * {@code SELECT ... FOR UPDATE SKIP LOCKED}, publishes them and marks them
+ * published in the same transaction, and keeps going while batches come back
+ * full. Throughput is tuned with the batch size and
+ * {@code rewards.outbox.poll-interval-ms}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "rewards.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+	private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+	private final OutboxEventRepository outboxEventRepository;
+
+	private final RewardEventSink sink;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+
+	private final Duration retention;
+
+	public OutboxRelay(OutboxEventRepository outboxEventRepository, ObjectProvider<RewardEventSink> sinks,
+			TransactionTemplate transactionTemplate, @Value("${rewards.outbox.batch-size:100}") int batchSize,
+			@Value("${rewards.outbox.retention:P7D}") Duration retention) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.sink = sinks.getIfAvailable(LoggingRewardEventSink::new);
+		this.transactionTemplate = transactionTemplate;
+		this.batchSize = batchSize;
+		this.retention = retention;
+	}
+
+	/**
+	 * Drains unpublished events until a batch comes back smaller than the batch
+	 * size. A failing sink stops the drain; the batch is retried next poll.
+	 */
+	@Scheduled(fixedDelayString = "${rewards.outbox.poll-interval-ms:1000}",
+			initialDelayString = "${rewards.outbox.poll-interval-ms:1000}")
+	public void relay() {
+		int published;
+		do {
+			try {
+				published = transactionTemplate.execute(status -> relayBatch());
+			} catch (RuntimeException ex) {
+				logger.warn("Outbox relay failed, will retry: {}", ex.getMessage());
+				return;
+			}
+		} while (published == batchSize);
+	}
+
+	/**
+	 * Publishes one batch inside the caller's transaction.
+	 *
+	 * @return number of events published
+	 */
+	int relayBatch() {
+		List<OutboxEvent> batch = outboxEventRepository.findUnpublishedForUpdate(PageRequest.of(0, batchSize));
+		if (batch.isEmpty()) {
+			return 0;
+		}
+		sink.publish(batch);
+		outboxEventRepository.markPublished(batch.stream().map(OutboxEvent::getId).toList(), Instant.now());
+		logger.debug("Relayed {} outbox events", batch.size());
+		return batch.size();
+	}
+
+	/**
+	 * Removes published events older than {@code rewards.outbox.retention}.
+	 */
+	@Scheduled(fixedDelayString = "${rewards.outbox.purge-interval-ms:3600000}",
+			initialDelayString = "${rewards.outbox.purge-interval-ms:3600000}")
+	public void purge() {
+		Integer deleted = transactionTemplate
+				.execute(status -> outboxEventRepository.deletePublishedBefore(Instant.now().minus(retention)));
+		if (deleted != null && deleted > 0) {
+			logger.info("Purged {} published outbox events", deleted);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.infy.outbox;
+import java.util.List;
+import com.infy.model.OutboxEvent;
+
+/**
+ * Destination for reward events relayed from the outbox.
+ * <p>
+ * Implementations receive one batch per call and must throw if the batch could
+ * not be delivered; the relay then leaves it unpublished and retries on the
+ * next poll, so delivery is at-least-once and sinks should tolerate repeats.
+ * </p>
+ */
+public interface RewardEventSink {
+
+	/**
+	 * Publishes a batch of events.
+	 *
+	 * @param events events in outbox order
+	 */
+	void publish(List<OutboxEvent> events);
+}
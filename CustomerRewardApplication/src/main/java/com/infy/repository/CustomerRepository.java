@@ -1,4 +1,5 @@
 package com.infy.repository;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import com.infy.model.Customer;
@@ -10,4 +11,11 @@ import com.infy.model.Customer;
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
+	/**
+	 * Retrieves the customer stored with the given idempotency key.
+	 *
+	 * @param idempotencyKey the idempotency key
+	 * @return the customer, if one was stored with this key
+	 */
+	Optional<Customer> findByIdempotencyKey(String idempotencyKey);
 }
@@ -0,0 +1,55 @@
+package com.infy.repository;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.infy.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository interface for managing OutboxEvent entities. Provides the batch
+ * claim and bookkeeping queries used by the outbox relay.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * Locks the oldest unpublished events, skipping rows another relay instance
+	 * already holds.
+	 *
+	 * @param pageable batch size (first page only)
+	 * @return unpublished events in insertion order
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("select e from OutboxEvent e where e.publishedAt is null order by e.id")
+	List<OutboxEvent> findUnpublishedForUpdate(Pageable pageable);
+
+	/**
+	 * Marks the given events as published.
+	 *
+	 * @param ids         event IDs
+	 * @param publishedAt publication timestamp
+	 * @return number of rows updated
+	 */
+	@Modifying
+	@Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+	int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+	/**
+	 * Deletes events published before the given instant.
+	 *
+	 * @param cutoff retention cutoff
+	 * @return number of rows deleted
+	 */
+	@Modifying
+	@Query("delete from OutboxEvent e where e.publishedAt < :cutoff")
+	int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
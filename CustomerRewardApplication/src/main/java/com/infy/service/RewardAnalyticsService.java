@@ -0,0 +1,24 @@
+package com.infy.service;
+import com.infy.dto.RewardAnalyticsDto;
+import com.infy.model.Customer;
+
+/**
+ * Service interface for program-wide reward analytics.
+ */
+public interface RewardAnalyticsService {
+
+	/**
+	 * Adds a newly saved customer's transactions to the analytics.
+	 *
+	 * @param customer the saved customer, with its transactions
+	 */
+	void recordCustomer(Customer customer);
+
+	/**
+	 * Returns points issued, distinct active customers and transaction amount
+	 * percentiles per month and in total. Does not touch the database.
+	 *
+	 * @return the current analytics
+	 */
+	RewardAnalyticsDto getAnalytics();
+}
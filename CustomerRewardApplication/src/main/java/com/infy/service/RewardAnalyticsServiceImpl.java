@@ -0,0 +1,211 @@
+package com.infy.service;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import com.infy.analytics.ProgramAnalytics;
+import com.infy.dto.RewardAnalyticsDto;
+import com.infy.dto.RewardAnalyticsDto.MonthSummary;
+import com.infy.model.Customer;
+import com.infy.model.Transaction;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service implementation for program-wide reward analytics.
+ * <p>
+ * Keeps a {@link ProgramAnalytics} in memory that {@code saveCustomer} updates
+ * after every commit, so reads never scan the transaction table. The state is
+ * written to {@code rewards.analytics.snapshot-path} periodically and on
+ * shutdown. On startup the snapshot is restored and customers from
+ * {@link ProgramAnalytics#getReplayFromCustomerId()} on are replayed from the
+ * database, skipping the ones the snapshot already counted, so saves that
+ * committed out of ID order are picked up too. Without a snapshot the whole
+ * table is replayed once. Customers saved while the replay runs are applied
+ * after it, skipping any the replay already counted.
+ * </p>
+ */
+@Service
+public class RewardAnalyticsServiceImpl implements RewardAnalyticsService {
+
+	private static final Logger logger = LoggerFactory.getLogger(RewardAnalyticsServiceImpl.class);
+
+	private static final String MAX_CUSTOMER_SQL = "SELECT MAX(customer_id) FROM customer";
+
+	private static final String REPLAY_SQL = "SELECT customer_id, date, amount FROM transaction"
+			+ " WHERE customer_id > ? AND customer_id <= ? ORDER BY customer_id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final JdbcTemplate streamingJdbcTemplate;
+
+	private final Path snapshotPath;
+
+	private ProgramAnalytics analytics = new ProgramAnalytics();
+
+	private List<Customer> pending = new ArrayList<>();
+
+	private boolean dirty;
+
+	private Instant lastSnapshotAt;
+
+	private RewardAnalyticsDto cached;
+
+	/**
+	 * @param dataSource   the application data source
+	 * @param fetchSize    JDBC fetch size for the startup replay;
+	 *                     {@code Integer.MIN_VALUE} makes MySQL Connector/J
+	 *                     stream rows one at a time
+	 * @param snapshotPath file the analytics are snapshotted to
+	 */
+	public RewardAnalyticsServiceImpl(DataSource dataSource,
+			@Value("${rewards.analytics.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize,
+			@Value("${rewards.analytics.snapshot-path:data/reward-analytics.snapshot}") Path snapshotPath) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+		this.streamingJdbcTemplate.setFetchSize(fetchSize);
+		this.snapshotPath = snapshotPath;
+	}
+
+	/**
+	 * Restores the latest snapshot and replays customers saved after it, once
+	 * the context (and Flyway) is up.
+	 */
+	@EventListener(ApplicationStartedEvent.class)
+	public void restore() {
+		long start = System.nanoTime();
+		ProgramAnalytics restored = readSnapshot();
+		long fromCustomerId = restored.getReplayFromCustomerId();
+		Set<Long> snapshotted = new HashSet<>(restored.getTailCustomerIds());
+		Long toCustomerId = jdbcTemplate.queryForObject(MAX_CUSTOMER_SQL, Long.class);
+		long[] replayed = { 0 };
+		if (toCustomerId != null && toCustomerId > fromCustomerId) {
+			streamingJdbcTemplate.query(REPLAY_SQL, (RowCallbackHandler) rs -> {
+				LocalDate date = rs.getObject(2, LocalDate.class);
+				if (date != null && !snapshotted.contains(rs.getLong(1))) {
+					double amount = rs.getDouble(3);
+					restored.add(rs.getLong(1), date, amount, RewardRules.CURRENT.points(amount));
+					replayed[0]++;
+				}
+			}, fromCustomerId, toCustomerId);
+		}
+
+		synchronized (this) {
+			for (Customer customer : pending) {
+				if (!restored.isCounted(customer.getCustomerId())) {
+					add(restored, customer);
+				}
+			}
+			pending = null;
+			analytics = restored;
+			dirty = replayed[0] > 0;
+			cached = null;
+		}
+		logger.info("Reward analytics restored through customer ID {} ({} transactions replayed) in {} ms",
+				restored.getHighWaterCustomerId(), replayed[0], (System.nanoTime() - start) / 1_000_000);
+	}
+
+	@Override
+	public synchronized void recordCustomer(Customer customer) {
+		if (pending != null) {
+			pending.add(customer);
+			return;
+		}
+		add(analytics, customer);
+		dirty = true;
+		cached = null;
+	}
+
+	/**
+	 * Builds the response from the in-memory sketches; the cost depends on the
+	 * number of months, not on customers or transactions. The result is reused
+	 * until the next update.
+	 */
+	@Override
+	public synchronized RewardAnalyticsDto getAnalytics() {
+		if (cached == null) {
+			List<MonthSummary> byMonth = new ArrayList<>();
+			for (Map.Entry<YearMonth, ProgramAnalytics.Month> entry : analytics.getMonths().entrySet()) {
+				byMonth.add(summary(entry.getKey().toString(), entry.getValue()));
+			}
+			cached = new RewardAnalyticsDto(analytics.getHighWaterCustomerId(), lastSnapshotAt,
+					summary("ALL", analytics.getAllMonths()), byMonth);
+		}
+		return cached;
+	}
+
+	/**
+	 * Writes the analytics to disk if they changed since the last snapshot. The
+	 * state is copied under the lock and written outside it.
+	 */
+	@Scheduled(initialDelayString = "${rewards.analytics.snapshot-interval-ms:60000}", fixedDelayString = "${rewards.analytics.snapshot-interval-ms:60000}")
+	public void snapshot() {
+		ProgramAnalytics copy;
+		synchronized (this) {
+			if (!dirty || pending != null) {
+				return;
+			}
+			copy = analytics.copy();
+			dirty = false;
+		}
+		try {
+			copy.writeTo(snapshotPath);
+			synchronized (this) {
+				lastSnapshotAt = Instant.now();
+				cached = null;
+			}
+			logger.debug("Reward analytics snapshot written through customer ID {}", copy.getHighWaterCustomerId());
+		} catch (IOException ex) {
+			logger.warn("Could not write reward analytics snapshot to {}", snapshotPath, ex);
+			synchronized (this) {
+				dirty = true;
+			}
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		snapshot();
+	}
+
+	private ProgramAnalytics readSnapshot() {
+		if (!Files.exists(snapshotPath)) {
+			return new ProgramAnalytics();
+		}
+		try {
+			return ProgramAnalytics.readFrom(snapshotPath);
+		} catch (IOException | RuntimeException ex) {
+			logger.warn("Ignoring unreadable reward analytics snapshot {}", snapshotPath, ex);
+			return new ProgramAnalytics();
+		}
+	}
+
+	private static void add(ProgramAnalytics target, Customer customer) {
+		for (Transaction transaction : customer.getTransaction()) {
+			target.add(customer.getCustomerId(), transaction.getDate(), transaction.getAmount(),
+					RewardRules.CURRENT.points(transaction.getAmount()));
+		}
+	}
+
+	private static MonthSummary summary(String month, ProgramAnalytics.Month aggregate) {
+		return new MonthSummary(month, aggregate.getPoints(), aggregate.getTransactions(),
+				aggregate.getActiveCustomers(), aggregate.amountQuantile(0.50), aggregate.amountQuantile(0.95),
+				aggregate.amountQuantile(0.99));
+	}
+}
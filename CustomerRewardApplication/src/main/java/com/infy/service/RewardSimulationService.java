@@ -0,0 +1,26 @@
+package com.infy.service;
+import com.infy.dto.SimulationRequestDto;
+import com.infy.dto.SimulationResultDto;
+
+/**
+ * Interface for "what-if" simulations of candidate reward rules over the full
+ * transaction history.
+ */
+public interface RewardSimulationService {
+
+	/**
+	 * Start a simulation of the candidate rules against the current rules.
+	 *
+	 * @param request candidate tier parameters
+	 * @return the running simulation, including its ID
+	 */
+	SimulationResultDto startSimulation(SimulationRequestDto request);
+
+	/**
+	 * Get the state, and once completed the result, of a simulation.
+	 *
+	 * @param simulationId simulation ID
+	 * @return simulation state and result
+	 */
+	SimulationResultDto getSimulation(String simulationId);
+}
@@ -0,0 +1,266 @@
+package com.infy.service;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import com.infy.dto.SimulationRequestDto;
+import com.infy.dto.SimulationResultDto;
+import com.infy.dto.SimulationResultDto.Status;
+import com.infy.exception.InvalidRequestException;
+import com.infy.exception.SimulationInProgressException;
+import com.infy.exception.SimulationNotFoundException;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service implementation for reward rule simulations.
+ * <p>
+ * Reads the whole {@code transaction} table once, split into customer ID
+ * ranges that are scanned in parallel. Each range is read through a
+ * forward-only, read-only streaming cursor ordered by customer, which the
+ * {@code (customer_id, date, amount)} index serves without touching table rows.
+ * Only running totals are kept in memory, and nothing is written back.
+ * Simulations run one at a time in the background and a start request is
+ * rejected while one is running, so jobs never queue up. Each concurrent scan
+ * holds a pooled connection for its whole range, so the scans are capped at
+ * half the Hikari pool to leave the rest for requests. Results are kept until
+ * {@code rewards.simulation.max-retained} newer ones have been started.
+ * </p>
+ */
+@Service
+public class RewardSimulationServiceImpl implements RewardSimulationService {
+
+	private static final Logger logger = LoggerFactory.getLogger(RewardSimulationServiceImpl.class);
+
+	private static final long[] DEFAULT_BUCKET_BOUNDS = { 0, 100, 500, 1000, 5000 };
+
+	private static final String ID_RANGE_SQL = "SELECT MIN(customer_id), MAX(customer_id) FROM transaction";
+
+	private static final String SCAN_SQL = "SELECT customer_id, date, amount FROM transaction"
+			+ " WHERE customer_id BETWEEN ? AND ? ORDER BY customer_id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final JdbcTemplate streamingJdbcTemplate;
+
+	private final int parallelism;
+
+	private final int maxRetained;
+
+	private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+
+	private final Semaphore jobPermit = new Semaphore(1);
+
+	private final ExecutorService scanExecutor;
+
+	private final Map<String, SimulationResultDto> simulations = new ConcurrentHashMap<>();
+
+	private final List<String> simulationOrder = new ArrayList<>();
+
+	/**
+	 * @param dataSource  the application data source
+	 * @param parallelism number of ranges scanned concurrently (one connection
+	 *                    each), capped at half of {@code poolSize}
+	 * @param poolSize    maximum size of the application connection pool
+	 * @param fetchSize   JDBC fetch size; {@code Integer.MIN_VALUE} makes MySQL
+	 *                    Connector/J stream rows one at a time
+	 * @param maxRetained number of simulations kept for lookup
+	 */
+	public RewardSimulationServiceImpl(DataSource dataSource,
+			@Value("${rewards.simulation.parallelism:4}") int parallelism,
+			@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+			@Value("${rewards.simulation.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize,
+			@Value("${rewards.simulation.max-retained:20}") int maxRetained) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+		this.streamingJdbcTemplate.setFetchSize(fetchSize);
+		int maxScanConnections = Math.max(1, poolSize / 2);
+		if (parallelism > maxScanConnections) {
+			logger.warn("rewards.simulation.parallelism={} capped at {} to leave pool connections for requests",
+					parallelism, maxScanConnections);
+			parallelism = maxScanConnections;
+		}
+		this.parallelism = parallelism;
+		this.maxRetained = maxRetained;
+		this.scanExecutor = Executors.newFixedThreadPool(parallelism);
+	}
+
+	/**
+	 * Validates the candidate rules and starts the simulation in the background.
+	 *
+	 * @param request candidate tier parameters
+	 * @return the running simulation
+	 * @throws InvalidRequestException        if the tiers or bucket bounds are
+	 *                                        invalid
+	 * @throws SimulationInProgressException if another simulation is running
+	 */
+	@Override
+	public SimulationResultDto startSimulation(SimulationRequestDto request) {
+		RewardRules candidateRules = toRules(request);
+		long[] bucketBounds = toBucketBounds(request.getBucketBounds());
+		if (!jobPermit.tryAcquire()) {
+			throw new SimulationInProgressException("A reward simulation is already running; retry when it completes.");
+		}
+
+		String simulationId = UUID.randomUUID().toString();
+		SimulationResultDto running = new SimulationResultDto();
+		running.setSimulationId(simulationId);
+		running.setStatus(Status.RUNNING);
+		running.setCurrentRules(RewardRules.CURRENT);
+		running.setCandidateRules(candidateRules);
+		retain(running);
+
+		logger.info("Starting reward simulation {} with rules {}", simulationId, candidateRules);
+		try {
+			jobExecutor.execute(() -> {
+				SimulationResultDto result;
+				try {
+					result = run(running, candidateRules, bucketBounds);
+				} finally {
+					jobPermit.release();
+				}
+				simulations.computeIfPresent(simulationId, (id, previous) -> result);
+			});
+		} catch (RuntimeException ex) {
+			jobPermit.release();
+			throw ex;
+		}
+		return running;
+	}
+
+	/**
+	 * @throws SimulationNotFoundException if the simulation is unknown or no
+	 *                                     longer retained
+	 */
+	@Override
+	public SimulationResultDto getSimulation(String simulationId) {
+		SimulationResultDto simulation = simulations.get(simulationId);
+		if (simulation == null) {
+			throw new SimulationNotFoundException("Simulation not found for ID: " + simulationId);
+		}
+		return simulation;
+	}
+
+	private SimulationResultDto run(SimulationResultDto running, RewardRules candidateRules, long[] bucketBounds) {
+		long start = System.nanoTime();
+		SimulationResultDto result = new SimulationResultDto();
+		result.setSimulationId(running.getSimulationId());
+		result.setCurrentRules(running.getCurrentRules());
+		result.setCandidateRules(candidateRules);
+		try {
+			SimulationAccumulator total = new SimulationAccumulator(candidateRules, bucketBounds);
+			List<Future<SimulationAccumulator>> partitions = new ArrayList<>();
+			for (long[] range : customerIdRanges()) {
+				partitions.add(scanExecutor.submit(() -> scan(range[0], range[1], candidateRules, bucketBounds)));
+			}
+			for (Future<SimulationAccumulator> partition : partitions) {
+				total.merge(partition.get());
+			}
+
+			result.setStatus(Status.COMPLETED);
+			result.setTransactionsScanned(total.getTransactions());
+			result.setCustomersScanned(total.getCustomers());
+			result.setTotal(total.total());
+			result.setByMonth(total.byMonth());
+			result.setByCustomerBucket(total.byCustomerBucket());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			result.setStatus(Status.FAILED);
+			result.setError("Simulation interrupted");
+		} catch (ExecutionException | RuntimeException ex) {
+			Throwable cause = ex instanceof ExecutionException ? ex.getCause() : ex;
+			logger.error("Reward simulation {} failed", running.getSimulationId(), cause);
+			result.setStatus(Status.FAILED);
+			result.setError(cause.getMessage());
+		}
+		result.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+		logger.info("Reward simulation {} {} in {} ms ({} transactions)", result.getSimulationId(),
+				result.getStatus(), result.getElapsedMillis(), result.getTransactionsScanned());
+		return result;
+	}
+
+	/**
+	 * Splits the customer ID space into {@code parallelism * 4} ranges so a few
+	 * heavy customers do not leave the other threads idle.
+	 */
+	private List<long[]> customerIdRanges() {
+		Map<String, Object> bounds = jdbcTemplate.queryForMap(ID_RANGE_SQL);
+		List<long[]> ranges = new ArrayList<>();
+		Object[] values = bounds.values().toArray();
+		if (values[0] == null) {
+			return ranges;
+		}
+		long min = ((Number) values[0]).longValue();
+		long max = ((Number) values[1]).longValue();
+		long step = Math.max(1, (max - min + 1) / (parallelism * 4L));
+		for (long from = min; from <= max; from += step) {
+			ranges.add(new long[] { from, Math.min(max, from + step - 1) });
+		}
+		return ranges;
+	}
+
+	private SimulationAccumulator scan(long fromCustomerId, long toCustomerId, RewardRules candidateRules,
+			long[] bucketBounds) {
+		SimulationAccumulator accumulator = new SimulationAccumulator(candidateRules, bucketBounds);
+		streamingJdbcTemplate.query(SCAN_SQL, (RowCallbackHandler) rs -> {
+			LocalDate date = rs.getObject(2, LocalDate.class);
+			if (date != null) {
+				accumulator.add(rs.getLong(1), date, rs.getDouble(3));
+			}
+		}, fromCustomerId, toCustomerId);
+		accumulator.finishCustomer();
+		return accumulator;
+	}
+
+	private RewardRules toRules(SimulationRequestDto request) {
+		if (request.getUpperThreshold() < request.getLowerThreshold()) {
+			throw new InvalidRequestException("Upper threshold cannot be below lower threshold.");
+		}
+		return new RewardRules(request.getLowerThreshold(), request.getUpperThreshold(), request.getLowerRate(),
+				request.getUpperRate());
+	}
+
+	private long[] toBucketBounds(List<Long> requested) {
+		if (requested == null || requested.isEmpty()) {
+			return DEFAULT_BUCKET_BOUNDS;
+		}
+		List<Long> bounds = new ArrayList<>(List.of(0L));
+		for (Long bound : requested) {
+			if (bound != null && bound == 0 && bounds.size() == 1) {
+				continue;
+			}
+			if (bound == null || bound <= bounds.get(bounds.size() - 1)) {
+				throw new InvalidRequestException("Bucket bounds must be non-negative and strictly ascending.");
+			}
+			bounds.add(bound);
+		}
+		return bounds.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	private synchronized void retain(SimulationResultDto simulation) {
+		simulations.put(simulation.getSimulationId(), simulation);
+		simulationOrder.add(simulation.getSimulationId());
+		while (simulationOrder.size() > maxRetained) {
+			simulations.remove(simulationOrder.remove(0));
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		jobExecutor.shutdownNow();
+		scanExecutor.shutdownNow();
+	}
+}
@@ -1,20 +1,33 @@
 package com.infy.service;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.infy.exception.CustomerNotFoundException;
 import com.infy.exception.InvalidDateFormatException;
 import com.infy.exception.InvalidRequestException;
+import com.infy.idempotency.IdempotencyKeyIndex;
 import com.infy.model.Customer;
+import com.infy.model.OutboxEvent;
 import com.infy.model.Transaction;
 import com.infy.repository.CustomerRepository;
+import com.infy.repository.OutboxEventRepository;
 import com.infy.repository.TransactionRepository;
 
 /**
@@ -25,35 +38,133 @@ public class RewardsServiceImpl implements RewardsService {
 
     private static final Logger logger = LoggerFactory.getLogger(RewardsServiceImpl.class);
 
+    private static final int MAX_CLIENT_KEY_LENGTH = 64;
+
     @Autowired
     private CustomerRepository customerRepository;
 
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IdempotencyKeyIndex idempotencyKeyIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RewardAnalyticsService rewardAnalyticsService;
+
     /**
-     * Saves a customer and their transactions to the database.
+     * Saves a customer and their transactions to the database in one
+     * transaction, so the customer cache entry is written on the same commit.
+     * A points-earned outbox event is recorded in the same transaction for
+     * every transaction that earns points.
+     * <p>
+     * Ingestion is idempotent: the customer is keyed by the client-supplied
+     * idempotency key, or by a content hash of the name and the transaction
+     * dates and amounts. A payload whose key is already stored returns the
+     * originally saved customer instead of being stored again. The in-memory
+     * {@link IdempotencyKeyIndex} lets new payloads skip that lookup.
+     * </p>
+     * <p>
+     * Once committed, the transactions are added to the program-wide
+     * {@link RewardAnalyticsService} figures.
+     * </p>
      *
      * @param customer the customer entity to save
-     * @return the saved customer entity
+     * @return the saved customer entity, or the original one for a duplicate
      * @throws InvalidRequestException if customer or transaction data is invalid
      */
     @Override
     public Customer saveCustomer(Customer customer) {
         logger.info("Saving Customer: {}", customer.getCustomerName());
         validateCustomer(customer);
+        String key = idempotencyKey(customer);
+        customer.setIdempotencyKey(key);
+
+        if (idempotencyKeyIndex.mightContain(key)) {
+            Optional<Customer> original = customerRepository.findByIdempotencyKey(key);
+            if (original.isPresent()) {
+                logger.info("Duplicate submission, returning customer ID: {}", original.get().getCustomerId());
+                return original.get();
+            }
+        }
+
+        try {
+            Customer savedCustomer = transactionTemplate.execute(status -> persistCustomer(customer));
+            idempotencyKeyIndex.add(key);
+            rewardAnalyticsService.recordCustomer(savedCustomer);
+            logger.info("Customer saved successfully with ID: {}", savedCustomer.getCustomerId());
+            return savedCustomer;
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent submission of the same payload committed first
+            idempotencyKeyIndex.add(key);
+            return customerRepository.findByIdempotencyKey(key).orElseThrow(() -> ex);
+        }
+    }
 
+    /**
+     * Persists the customer, its transactions and their outbox events. Runs
+     * inside the caller's transaction.
+     *
+     * @param customer the validated customer
+     * @return the saved customer entity
+     */
+    private Customer persistCustomer(Customer customer) {
         Customer savedCustomer = customerRepository.save(customer);
 
+        Instant now = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>();
         customer.getTransaction().forEach(transaction -> {
             transaction.setCustomer(savedCustomer);
-            transactionRepository.save(transaction);
+            Transaction savedTransaction = transactionRepository.save(transaction);
+            int points = calculatePoints(savedTransaction.getAmount());
+            if (points > 0) {
+                events.add(new OutboxEvent(null, OutboxEvent.POINTS_EARNED, savedCustomer.getCustomerId(),
+                        savedTransaction.getTransactionId(), savedTransaction.getAmount(), savedTransaction.getDate(),
+                        points, now, null));
+            }
         });
-
-        logger.info("Customer saved successfully with ID: {}", savedCustomer.getCustomerId());
+        outboxEventRepository.saveAll(events);
         return savedCustomer;
     }
 
+    /**
+     * Builds the idempotency key: {@code key:<client key>} when the client sent
+     * one, otherwise {@code sha256:<hash>} of the name and the transactions
+     * sorted by date and amount.
+     *
+     * @param customer the validated customer
+     * @return the idempotency key
+     * @throws InvalidRequestException if the client key is blank or too long
+     */
+    private String idempotencyKey(Customer customer) {
+        String clientKey = customer.getIdempotencyKey();
+        if (clientKey != null) {
+            if (clientKey.isBlank() || clientKey.length() > MAX_CLIENT_KEY_LENGTH) {
+                throw new InvalidRequestException(
+                        "Idempotency key must be between 1 and " + MAX_CLIENT_KEY_LENGTH + " characters.");
+            }
+            return "key:" + clientKey;
+        }
+
+        StringBuilder content = new StringBuilder(customer.getCustomerName());
+        customer.getTransaction().stream()
+                .sorted(Comparator.comparing(Transaction::getDate).thenComparingDouble(Transaction::getAmount))
+                .forEach(t -> content.append('|').append(t.getDate()).append(':').append(t.getAmount()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return "sha256:" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
     /**
      * Validates the customer object and its transactions.
      *
@@ -165,11 +276,6 @@ public class RewardsServiceImpl implements RewardsService {
 	 * $50 up to $100 Uses integer arithmetic to avoid the half-point bug.
 	 */
 	private int calculatePoints(double amount) {
-		int points = 0;
-		if (amount > 100)
-			points += (int) ((amount - 100) * 2);
-		if (amount > 50)
-			points += (int) Math.min(amount, 100) - 50;
-		return points;
+		return RewardRules.CURRENT.points(amount);
 	}
 }
@@ -0,0 +1,141 @@
+package com.infy.service;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import com.infy.dto.SimulationResultDto.PointsDelta;
+
+/**
+ * Running totals of one simulation partition.
+ * <p>
+ * Rows must arrive grouped by customer (the scan orders by customer ID), so
+ * only the customer being read is tracked; when the customer changes, its
+ * history total is added to the bucket its current-rules points fall in.
+ * Memory use is independent of the number of rows and customers.
+ * </p>
+ */
+class SimulationAccumulator {
+
+	private final RewardRules candidateRules;
+
+	private final long[] bucketBounds;
+
+	private final Map<YearMonth, long[]> months = new TreeMap<>();
+
+	private final long[] bucketCustomers;
+
+	private final long[] bucketCurrent;
+
+	private final long[] bucketCandidate;
+
+	private long transactions;
+
+	private long customers;
+
+	private long customerId = -1;
+
+	private long customerCurrent;
+
+	private long customerCandidate;
+
+	SimulationAccumulator(RewardRules candidateRules, long[] bucketBounds) {
+		this.candidateRules = candidateRules;
+		this.bucketBounds = bucketBounds;
+		this.bucketCustomers = new long[bucketBounds.length];
+		this.bucketCurrent = new long[bucketBounds.length];
+		this.bucketCandidate = new long[bucketBounds.length];
+	}
+
+	void add(long rowCustomerId, LocalDate date, double amount) {
+		if (rowCustomerId != customerId) {
+			finishCustomer();
+			customerId = rowCustomerId;
+		}
+		int current = RewardRules.CURRENT.points(amount);
+		int candidate = candidateRules.points(amount);
+
+		long[] month = months.computeIfAbsent(YearMonth.from(date), key -> new long[3]);
+		month[0]++;
+		month[1] += current;
+		month[2] += candidate;
+
+		customerCurrent += current;
+		customerCandidate += candidate;
+		transactions++;
+	}
+
+	/**
+	 * Closes the customer currently being read. Called on customer change and
+	 * once at the end of the partition.
+	 */
+	void finishCustomer() {
+		if (customerId < 0) {
+			return;
+		}
+		int bucket = 0;
+		while (bucket + 1 < bucketBounds.length && customerCurrent >= bucketBounds[bucket + 1]) {
+			bucket++;
+		}
+		bucketCustomers[bucket]++;
+		bucketCurrent[bucket] += customerCurrent;
+		bucketCandidate[bucket] += customerCandidate;
+		customers++;
+		customerId = -1;
+		customerCurrent = 0;
+		customerCandidate = 0;
+	}
+
+	void merge(SimulationAccumulator other) {
+		other.months.forEach((key, value) -> {
+			long[] month = months.computeIfAbsent(key, k -> new long[3]);
+			for (int i = 0; i < month.length; i++) {
+				month[i] += value[i];
+			}
+		});
+		for (int i = 0; i < bucketBounds.length; i++) {
+			bucketCustomers[i] += other.bucketCustomers[i];
+			bucketCurrent[i] += other.bucketCurrent[i];
+			bucketCandidate[i] += other.bucketCandidate[i];
+		}
+		transactions += other.transactions;
+		customers += other.customers;
+	}
+
+	long getTransactions() {
+		return transactions;
+	}
+
+	long getCustomers() {
+		return customers;
+	}
+
+	PointsDelta total() {
+		long current = 0;
+		long candidate = 0;
+		for (long[] month : months.values()) {
+			current += month[1];
+			candidate += month[2];
+		}
+		return new PointsDelta("ALL", transactions, current, candidate, candidate - current);
+	}
+
+	List<PointsDelta> byMonth() {
+		List<PointsDelta> result = new ArrayList<>();
+		months.forEach((key, value) -> result
+				.add(new PointsDelta(key.toString(), value[0], value[1], value[2], value[2] - value[1])));
+		return result;
+	}
+
+	List<PointsDelta> byCustomerBucket() {
+		List<PointsDelta> result = new ArrayList<>();
+		for (int i = 0; i < bucketBounds.length; i++) {
+			String label = i + 1 < bucketBounds.length ? bucketBounds[i] + "-" + (bucketBounds[i + 1] - 1)
+					: bucketBounds[i] + "+";
+			result.add(new PointsDelta(label, bucketCustomers[i], bucketCurrent[i], bucketCandidate[i],
+					bucketCandidate[i] - bucketCurrent[i]));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,147 @@
+package com.infy.sqlstats;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource wrapper that feeds {@link SqlStatementStats}.
+ * <p>
+ * Connections borrowed while the current thread has active counters are
+ * wrapped in JDK proxies that time every {@code execute*} call and count the
+ * rows read from its result set or reported as updated. Connections borrowed
+ * without counters, e.g. by background jobs, are returned unwrapped.
+ * </p>
+ */
+public class AccountingDataSource extends DelegatingDataSource {
+
+	private static final String BATCH = "<batch>";
+
+	public AccountingDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(super.getConnection(username, password));
+	}
+
+	private static Connection wrap(Connection connection) {
+		SqlStatementStats stats = SqlStatementStats.current();
+		return stats == null ? connection
+				: (Connection) proxy(Connection.class, new ConnectionHandler(connection, stats));
+	}
+
+	private static Object proxy(Class<?> type, InvocationHandler handler) {
+		return Proxy.newProxyInstance(AccountingDataSource.class.getClassLoader(), new Class<?>[] { type }, handler);
+	}
+
+	private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+	/**
+	 * Wraps the statements a connection creates. Prepared statements remember
+	 * their SQL; plain statements take it from the {@code execute*} call.
+	 */
+	private record ConnectionHandler(Connection target, SqlStatementStats stats) implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object result = invokeTarget(target, method, args);
+			if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+				String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+				return proxy(method.getReturnType(), new StatementHandler(statement, sql, stats));
+			}
+			return result;
+		}
+	}
+
+	private record StatementHandler(Statement target, String preparedSql, SqlStatementStats stats)
+			implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (!name.startsWith("execute")) {
+				Object result = invokeTarget(target, method, args);
+				if (name.equals("getResultSet") && result != null) {
+					return proxy(ResultSet.class, new ResultSetHandler((ResultSet) result, stats));
+				}
+				return result;
+			}
+
+			String sql = preparedSql != null ? preparedSql
+					: args != null && args.length > 0 && args[0] instanceof String text ? text : BATCH;
+			JdbcStatementEvent event = new JdbcStatementEvent();
+			event.begin();
+			long start = System.nanoTime();
+			long affectedRows = 0;
+			try {
+				Object result = invokeTarget(target, method, args);
+				if (result instanceof ResultSet resultSet) {
+					return proxy(ResultSet.class, new ResultSetHandler(resultSet, stats));
+				}
+				affectedRows = affectedRows(result);
+				return result;
+			} finally {
+				stats.recordStatement(sql, affectedRows, System.nanoTime() - start);
+				event.end();
+				if (event.shouldCommit()) {
+					event.sql = sql;
+					event.updatedRows = affectedRows;
+					event.commit();
+				}
+			}
+		}
+
+		private static long affectedRows(Object result) {
+			long rows = 0;
+			if (result instanceof Integer count) {
+				rows = Math.max(0, count);
+			} else if (result instanceof Long count) {
+				rows = Math.max(0, count);
+			} else if (result instanceof int[] counts) {
+				for (int count : counts) {
+					rows += Math.max(0, count);
+				}
+			} else if (result instanceof long[] counts) {
+				for (long count : counts) {
+					rows += Math.max(0, count);
+				}
+			}
+			return rows;
+		}
+	}
+
+	private record ResultSetHandler(ResultSet target, SqlStatementStats stats) implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (!method.getName().equals("next")) {
+				return invokeTarget(target, method, args);
+			}
+			long start = System.nanoTime();
+			boolean hasRow = (Boolean) invokeTarget(target, method, args);
+			if (hasRow) {
+				stats.recordRow(System.nanoTime() - start);
+			}
+			return hasRow;
+		}
+	}
+}
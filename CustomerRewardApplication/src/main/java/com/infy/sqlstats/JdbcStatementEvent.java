@@ -0,0 +1,24 @@
+package com.infy.sqlstats;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one JDBC statement executed during an accounted HTTP request.
+ * The duration covers the {@code execute*} call; the stack trace shows which
+ * code path issued it.
+ */
+@Name("com.infy.JdbcStatement")
+@Label("JDBC Statement")
+@Category({ "Customer Rewards", "SQL" })
+@Description("A SQL statement executed while serving an HTTP request")
+class JdbcStatementEvent extends Event {
+
+	@Label("SQL")
+	String sql;
+
+	@Label("Updated Rows")
+	long updatedRows;
+}
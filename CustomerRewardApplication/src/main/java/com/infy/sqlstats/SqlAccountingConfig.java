@@ -0,0 +1,42 @@
+package com.infy.sqlstats;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Debug-mode SQL accounting, enabled with {@code rewards.sql-stats.enabled}.
+ * Wraps the application DataSource in an {@link AccountingDataSource} and
+ * registers {@link SqlAccountingFilter} for {@code /api/*}, inside the
+ * concurrency limiter so shed requests are not accounted.
+ */
+@Configuration
+@ConditionalOnProperty(name = "rewards.sql-stats.enabled", havingValue = "true")
+public class SqlAccountingConfig {
+
+	@Bean
+	public static BeanPostProcessor accountingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return bean instanceof DataSource dataSource && !(bean instanceof AccountingDataSource)
+						? new AccountingDataSource(dataSource)
+						: bean;
+			}
+		};
+	}
+
+	@Bean
+	public FilterRegistrationBean<SqlAccountingFilter> sqlAccountingFilter(
+			@Value("${rewards.sql-stats.n-plus-one-threshold:3}") int nPlusOneThreshold) {
+		FilterRegistrationBean<SqlAccountingFilter> registration = new FilterRegistrationBean<>(
+				new SqlAccountingFilter(nPlusOneThreshold));
+		registration.addUrlPatterns("/api/*");
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+		return registration;
+	}
+}
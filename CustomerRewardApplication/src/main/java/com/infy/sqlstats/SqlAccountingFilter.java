@@ -0,0 +1,83 @@
+package com.infy.sqlstats;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet filter that accounts the SQL issued by each request.
+ * <p>
+ * Counts statements, rows and database time through {@link SqlStatementStats}
+ * and reports them in {@code X-SQL-*} response headers and a
+ * {@link SqlRequestEvent} JFR event. The response body is buffered so that
+ * statements issued while it is written (lazy loading during serialization)
+ * are included in the headers. A request that runs the same query at least
+ * {@code nPlusOneThreshold} times is logged as a likely N+1; the per-row
+ * inserts of an ingestion request are expected and not reported.
+ * </p>
+ */
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(SqlAccountingFilter.class);
+
+	public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+
+	public static final String ROWS_HEADER = "X-SQL-Rows";
+
+	public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+	public static final String MAX_REPEATS_HEADER = "X-SQL-Max-Repeats";
+
+	private final int nPlusOneThreshold;
+
+	/**
+	 * @param nPlusOneThreshold executions of an identical query in one request
+	 *                          that are logged as a likely N+1
+	 */
+	public SqlAccountingFilter(int nPlusOneThreshold) {
+		this.nPlusOneThreshold = nPlusOneThreshold;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+		SqlRequestEvent event = new SqlRequestEvent();
+		event.begin();
+		SqlStatementStats stats = SqlStatementStats.start();
+		try {
+			chain.doFilter(request, wrapped);
+		} finally {
+			SqlStatementStats.stop();
+			event.end();
+
+			wrapped.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+			wrapped.setHeader(ROWS_HEADER, String.valueOf(stats.getRows()));
+			wrapped.setHeader(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getDbNanos())));
+			wrapped.setHeader(MAX_REPEATS_HEADER, String.valueOf(stats.getMaxRepeats()));
+			if (stats.getMaxRepeats() >= nPlusOneThreshold) {
+				logger.warn("Possible N+1 in {} {}: same query ran {} times: {}", request.getMethod(),
+						request.getRequestURI(), stats.getMaxRepeats(), stats.getMostRepeatedSql());
+			}
+
+			if (event.shouldCommit()) {
+				event.method = request.getMethod();
+				event.uri = request.getRequestURI();
+				event.status = wrapped.getStatus();
+				event.statements = stats.getStatements();
+				event.rows = stats.getRows();
+				event.dbTime = stats.getDbNanos();
+				event.maxRepeats = stats.getMaxRepeats();
+				event.mostRepeatedSql = stats.getMostRepeatedSql();
+				event.commit();
+			}
+			wrapped.copyBodyToResponse();
+		}
+	}
+}
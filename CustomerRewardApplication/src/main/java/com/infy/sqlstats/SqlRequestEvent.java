@@ -0,0 +1,44 @@
+package com.infy.sqlstats;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event summarising the SQL issued by one HTTP request. The duration is
+ * the whole request.
+ */
+@Name("com.infy.SqlRequest")
+@Label("SQL per HTTP Request")
+@Category({ "Customer Rewards", "SQL" })
+@Description("Statements, rows and database time of one HTTP request")
+class SqlRequestEvent extends Event {
+
+	@Label("Method")
+	String method;
+
+	@Label("URI")
+	String uri;
+
+	@Label("Status")
+	int status;
+
+	@Label("Statements")
+	int statements;
+
+	@Label("Rows")
+	long rows;
+
+	@Label("Database Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long dbTime;
+
+	@Label("Max Repeats")
+	@Description("Executions of the most repeated SQL text; high values suggest N+1 queries")
+	int maxRepeats;
+
+	@Label("Most Repeated SQL")
+	String mostRepeatedSql;
+}
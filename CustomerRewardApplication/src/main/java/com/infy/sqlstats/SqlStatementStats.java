@@ -0,0 +1,105 @@
+package com.infy.sqlstats;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statement counters for the HTTP request running on the current thread.
+ * <p>
+ * {@link SqlAccountingFilter} starts and stops the counters around each
+ * request; {@link AccountingDataSource} adds every statement executed on a
+ * connection borrowed while they are active. Identical query text is counted
+ * separately, so a query repeated once per row (an N+1 pattern) shows up as
+ * {@link #getMaxRepeats()}. Repeated inserts and updates are not counted as
+ * repeats: with IDENTITY keys every saved row is its own statement. Not
+ * thread-safe: each instance belongs to one request thread.
+ * </p>
+ */
+public final class SqlStatementStats {
+
+	private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+	private final Map<String, Integer> executions = new HashMap<>();
+
+	private int statements;
+
+	private long rows;
+
+	private long dbNanos;
+
+	private int maxRepeats;
+
+	private String mostRepeatedSql;
+
+	/**
+	 * Starts counting for the current thread.
+	 *
+	 * @return the new counters
+	 */
+	public static SqlStatementStats start() {
+		SqlStatementStats stats = new SqlStatementStats();
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	/**
+	 * @return the counters of the current thread, or null if none were started
+	 */
+	public static SqlStatementStats current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Stops counting for the current thread.
+	 */
+	public static void stop() {
+		CURRENT.remove();
+	}
+
+	void recordStatement(String sql, long affectedRows, long nanos) {
+		statements++;
+		rows += affectedRows;
+		dbNanos += nanos;
+		if (!isQuery(sql)) {
+			return;
+		}
+		int repeats = executions.merge(sql, 1, Integer::sum);
+		if (repeats > maxRepeats) {
+			maxRepeats = repeats;
+			mostRepeatedSql = sql;
+		}
+	}
+
+	private static boolean isQuery(String sql) {
+		String trimmed = sql.stripLeading();
+		return trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4);
+	}
+
+	void recordRow(long nanos) {
+		rows++;
+		dbNanos += nanos;
+	}
+
+	/** Statements executed; a JDBC batch counts once. */
+	public int getStatements() {
+		return statements;
+	}
+
+	/** Rows read from result sets plus rows reported as updated. */
+	public long getRows() {
+		return rows;
+	}
+
+	/** Time spent in statement execution and result set reads. */
+	public long getDbNanos() {
+		return dbNanos;
+	}
+
+	/** Executions of the most frequently repeated query text. */
+	public int getMaxRepeats() {
+		return maxRepeats;
+	}
+
+	public String getMostRepeatedSql() {
+		return mostRepeatedSql;
+	}
+}
@@ -0,0 +1,293 @@
+package com.infy.warmup;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infy.dto.CustomerDto;
+import com.infy.dto.TransactionDto;
+import com.infy.exception.CustomerNotFoundException;
+import com.infy.model.Customer;
+import com.infy.model.Transaction;
+import com.infy.repository.CustomerRepository;
+import com.infy.service.RewardsService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+
+/**
+ * Warms the application up before the readiness probe reports UP.
+ * <p>
+ * Spring Boot switches readiness to {@code ACCEPTING_TRAFFIC} only after all
+ * {@link ApplicationRunner}s return, so load balancers keep traffic away while
+ * this runs. It
+ * <ol>
+ * <li>opens the Hikari pool up to its minimum idle size,</li>
+ * <li>replays synthetic ingestion and rewards calls, each iteration in its own
+ * short transaction that is rolled back: the payload is parsed and validated,
+ * a scratch customer is inserted and flushed, the persistence context is
+ * cleared and its rewards are calculated and serialized, so the JIT sees the
+ * Jackson, validation, Hibernate insert and select and
+ * {@code calculateRewards} paths on every iteration and nothing is left
+ * behind. The second-level cache is bypassed so rolled-back rows never reach
+ * it,</li>
+ * <li>calculates the recent rewards of the customers with the latest outbox
+ * activity, cycling through them until {@code rewards.warmup.iterations}
+ * lookups have run. The first pass loads them into the second-level cache
+ * and their index ranges into the database buffer pool; later passes run
+ * the cache-hit path.</li>
+ * </ol>
+ * The default of 10,000 iterations is in the range of the C2 compile
+ * thresholds.
+ * The whole phase is capped by a single {@code rewards.warmup.max-duration}
+ * deadline, checked between iterations of steps 2 and 3; opening the pool is
+ * bounded only by Hikari's connection timeout. Failures are logged and never
+ * block startup. The total time is logged and published as the
+ * {@code rewards.warmup.duration} gauge, and the per-step counts are logged
+ * and exposed through the getters.
+ * </p>
+ * <p>
+ * Rolled-back inserts still consume AUTO_INCREMENT values, so every startup
+ * burns {@code iterations} customer IDs and 12 x {@code iterations}
+ * transaction IDs.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "rewards.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+	static final String SCRATCH_CUSTOMER_NAME = "warmup-scratch";
+
+	private static final String RECENT_CUSTOMERS_SQL = "SELECT customer_id FROM outbox_event ORDER BY id DESC LIMIT ?";
+
+	private final DataSource dataSource;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final EntityManager entityManager;
+
+	private final CustomerRepository customerRepository;
+
+	private final RewardsService rewardsService;
+
+	private final ObjectMapper objectMapper;
+
+	private final Validator validator;
+
+	private final int iterations;
+
+	private final int recentCustomers;
+
+	private final int recentMonths;
+
+	private final long deadlineNanos;
+
+	private volatile double durationSeconds;
+
+	private volatile int pooledConnections;
+
+	private volatile int syntheticCalls;
+
+	private volatile int recentCustomersWarmed;
+
+	public WarmupRunner(DataSource dataSource, TransactionTemplate transactionTemplate, EntityManager entityManager,
+			CustomerRepository customerRepository, RewardsService rewardsService, ObjectMapper objectMapper,
+			Validator validator, MeterRegistry registry,
+			@Value("${rewards.warmup.iterations:10000}") int iterations,
+			@Value("${rewards.warmup.recent-customers:100}") int recentCustomers,
+			@Value("${rewards.warmup.recent-months:3}") int recentMonths,
+			@Value("${rewards.warmup.max-duration:PT60S}") Duration maxDuration) {
+		this.dataSource = dataSource;
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.transactionTemplate = transactionTemplate;
+		this.entityManager = entityManager;
+		this.customerRepository = customerRepository;
+		this.rewardsService = rewardsService;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.iterations = iterations;
+		this.recentCustomers = recentCustomers;
+		this.recentMonths = recentMonths;
+		this.deadlineNanos = maxDuration.toNanos();
+		TimeGauge.builder("rewards.warmup.duration", this, TimeUnit.SECONDS, WarmupRunner::getDurationSeconds)
+				.description("Time spent warming up before accepting traffic").register(registry);
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		long start = System.nanoTime();
+		pooledConnections = step("connection pool", this::fillPool);
+		syntheticCalls = step("synthetic calls", () -> replaySyntheticCalls(start));
+		recentCustomersWarmed = step("recent customers", () -> precomputeRecentCustomers(start));
+		long elapsed = System.nanoTime() - start;
+		durationSeconds = elapsed / 1e9;
+		logger.info("Warm-up completed in {} ms: {} pooled connections, {} synthetic calls, {} recent customers",
+				TimeUnit.NANOSECONDS.toMillis(elapsed), pooledConnections, syntheticCalls, recentCustomersWarmed);
+	}
+
+	public double getDurationSeconds() {
+		return durationSeconds;
+	}
+
+	/**
+	 * @return connections opened by the pool step, 0 if it failed
+	 */
+	public int getPooledConnections() {
+		return pooledConnections;
+	}
+
+	/**
+	 * @return synthetic ingestion and rewards iterations completed, 0 if the
+	 *         step failed
+	 */
+	public int getSyntheticCalls() {
+		return syntheticCalls;
+	}
+
+	/**
+	 * @return distinct recent customers whose rewards were calculated, 0 if the
+	 *         step failed
+	 */
+	public int getRecentCustomersWarmed() {
+		return recentCustomersWarmed;
+	}
+
+	/**
+	 * Borrows {@code minimumIdle} connections at once, so all of them are opened
+	 * now rather than by the first requests.
+	 */
+	private int fillPool() throws SQLException {
+		int target = dataSource.isWrapperFor(HikariDataSource.class)
+				? dataSource.unwrap(HikariDataSource.class).getMinimumIdle()
+				: 1;
+		List<Connection> connections = new ArrayList<>();
+		try {
+			for (int i = 0; i < target; i++) {
+				connections.add(dataSource.getConnection());
+			}
+		} finally {
+			for (Connection connection : connections) {
+				connection.close();
+			}
+		}
+		return connections.size();
+	}
+
+	private int replaySyntheticCalls(long start) throws IOException {
+		byte[] payload = objectMapper.writeValueAsBytes(syntheticPayload());
+		LocalDate end = LocalDate.now();
+		int done = 0;
+		while (done < iterations && !expired(start)) {
+			transactionTemplate.executeWithoutResult(status -> {
+				status.setRollbackOnly();
+				entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+				try {
+					CustomerDto dto = objectMapper.readValue(payload, CustomerDto.class);
+					validator.validate(dto);
+					Long scratchId = customerRepository.saveAndFlush(toCustomer(dto)).getCustomerId();
+					entityManager.clear();
+					Map<String, Object> rewards = rewardsService.calculateRewards(scratchId,
+							end.minusMonths(recentMonths), end);
+					objectMapper.writeValueAsBytes(rewards);
+				} catch (IOException ex) {
+					throw new IllegalStateException("Synthetic payload could not be processed", ex);
+				}
+			});
+			done++;
+		}
+		return done;
+	}
+
+	private int precomputeRecentCustomers(long start) {
+		Set<Long> customerIds = new LinkedHashSet<>();
+		jdbcTemplate.query(RECENT_CUSTOMERS_SQL, rs -> {
+			if (customerIds.size() < recentCustomers) {
+				customerIds.add(rs.getLong(1));
+			}
+		}, recentCustomers * 4);
+
+		LocalDate end = LocalDate.now();
+		int lookups = 0;
+		while (!customerIds.isEmpty() && lookups < Math.max(iterations, customerIds.size())) {
+			for (Long customerId : customerIds) {
+				if (expired(start)) {
+					return Math.min(lookups, customerIds.size());
+				}
+				try {
+					rewardsService.calculateRewards(customerId, end.minusMonths(recentMonths), end);
+				} catch (CustomerNotFoundException ex) {
+					// No transactions in the recent window; the customer row is cached regardless
+					customerRepository.findById(customerId);
+				}
+				lookups++;
+			}
+		}
+		return Math.min(lookups, customerIds.size());
+	}
+
+	private CustomerDto syntheticPayload() {
+		LocalDate today = LocalDate.now();
+		List<TransactionDto> transactions = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			transactions.add(new TransactionDto(30 + i * 15.25, today.minusDays(i * 7L)));
+		}
+		return new CustomerDto(SCRATCH_CUSTOMER_NAME, transactions);
+	}
+
+	private static Customer toCustomer(CustomerDto dto) {
+		Customer customer = new Customer();
+		customer.setCustomerName(dto.getCustomerName());
+		List<Transaction> transactions = new ArrayList<>();
+		for (TransactionDto transactionDto : dto.getTransaction()) {
+			transactions.add(new Transaction(null, transactionDto.getAmount(), transactionDto.getDate(), customer));
+		}
+		customer.setTransaction(transactions);
+		return customer;
+	}
+
+	private boolean expired(long start) {
+		return System.nanoTime() - start > deadlineNanos;
+	}
+
+	private static int step(String name, WarmupStep step) {
+		long start = System.nanoTime();
+		try {
+			int count = step.run();
+			logger.debug("Warm-up step '{}' took {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+			return count;
+		} catch (Exception ex) {
+			logger.warn("Warm-up step '{}' failed, continuing startup", name, ex);
+			return 0;
+		}
+	}
+
+	@FunctionalInterface
+	private interface WarmupStep {
+		int run() throws Exception;
+	}
+}
@@ -0,0 +1,17 @@
+-- Outbox table for the reward events. Kept out of V1 because databases created by
+-- ddl-auto only have customer and transaction, and baselining at V1 skips V1.
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type       VARCHAR(255),
+    customer_id      BIGINT,
+    transaction_id   BIGINT,
+    amount           DOUBLE       NOT NULL,
+    transaction_date DATE,
+    points           INT          NOT NULL,
+    created_at       DATETIME(6),
+    published_at     DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_outbox_unpublished ON outbox_event (published_at, id);
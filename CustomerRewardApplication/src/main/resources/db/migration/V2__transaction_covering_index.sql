@@ -0,0 +1,4 @@
+-- Covering index for findByCustomerCustomerIdAndDateBetween / findByCustomerCustomerId:
+-- equality on customer_id, range on date, and amount in the index so the rewards
+-- calculation reads no table rows (InnoDB secondary indexes also carry the primary key).
+CREATE INDEX idx_transaction_customer_date_amount ON transaction (customer_id, date, amount);
@@ -0,0 +1,5 @@
+-- Idempotency key per ingested payload: the client's Idempotency-Key header or a
+-- content hash of the customer and its transactions. V3 is reserved for the optional
+-- partitioning migration in db/partitioning.
+ALTER TABLE customer ADD COLUMN idempotency_key VARCHAR(100);
+CREATE UNIQUE INDEX uk_customer_idempotency_key ON customer (idempotency_key);
@@ -0,0 +1,77 @@
+-- OPTIONAL, MySQL only. Enable by adding classpath:db/partitioning to spring.flyway.locations.
+-- On a database already migrated past V3 also set spring.flyway.out-of-order=true, otherwise
+-- Flyway validation fails on this lower version.
+--
+-- RANGE-partitions transaction by month so date-bounded rewards queries prune to the
+-- months they cover. MySQL requires the partitioning column in every unique key and
+-- does not allow foreign keys on partitioned tables, so this migration
+--   * drops the transaction -> customer foreign key (whatever its generated name is), and
+--   * widens the primary key to (transaction_id, date).
+-- The JPA mapping is unaffected; transaction_id stays unique through AUTO_INCREMENT.
+--
+-- Partitions are pre-created through 2027-12. Before pmax starts receiving rows, split it:
+--   ALTER TABLE transaction REORGANIZE PARTITION pmax INTO (
+--       PARTITION p202801 VALUES LESS THAN (TO_DAYS('2028-02-01')),
+--       PARTITION pmax VALUES LESS THAN MAXVALUE);
+
+SET @fk := (SELECT constraint_name FROM information_schema.referential_constraints
+            WHERE constraint_schema = DATABASE() AND table_name = 'transaction' LIMIT 1);
+SET @drop_fk := IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE transaction DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @drop_fk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE transaction MODIFY date DATE NOT NULL;
+ALTER TABLE transaction DROP PRIMARY KEY, ADD PRIMARY KEY (transaction_id, date);
+
+ALTER TABLE transaction PARTITION BY RANGE (TO_DAYS(date)) (
+    PARTITION p202401 VALUES LESS THAN (TO_DAYS('2024-02-01')),
+    PARTITION p202402 VALUES LESS THAN (TO_DAYS('2024-03-01')),
+    PARTITION p202403 VALUES LESS THAN (TO_DAYS('2024-04-01')),
+    PARTITION p202404 VALUES LESS THAN (TO_DAYS('2024-05-01')),
+    PARTITION p202405 VALUES LESS THAN (TO_DAYS('2024-06-01')),
+    PARTITION p202406 VALUES LESS THAN (TO_DAYS('2024-07-01')),
+    PARTITION p202407 VALUES LESS THAN (TO_DAYS('2024-08-01')),
+    PARTITION p202408 VALUES LESS THAN (TO_DAYS('2024-09-01')),
+    PARTITION p202409 VALUES LESS THAN (TO_DAYS('2024-10-01')),
+    PARTITION p202410 VALUES LESS THAN (TO_DAYS('2024-11-01')),
+    PARTITION p202411 VALUES LESS THAN (TO_DAYS('2024-12-01')),
+    PARTITION p202412 VALUES LESS THAN (TO_DAYS('2025-01-01')),
+    PARTITION p202501 VALUES LESS THAN (TO_DAYS('2025-02-01')),
+    PARTITION p202502 VALUES LESS THAN (TO_DAYS('2025-03-01')),
+    PARTITION p202503 VALUES LESS THAN (TO_DAYS('2025-04-01')),
+    PARTITION p202504 VALUES LESS THAN (TO_DAYS('2025-05-01')),
+    PARTITION p202505 VALUES LESS THAN (TO_DAYS('2025-06-01')),
+    PARTITION p202506 VALUES LESS THAN (TO_DAYS('2025-07-01')),
+    PARTITION p202507 VALUES LESS THAN (TO_DAYS('2025-08-01')),
+    PARTITION p202508 VALUES LESS THAN (TO_DAYS('2025-09-01')),
+    PARTITION p202509 VALUES LESS THAN (TO_DAYS('2025-10-01')),
+    PARTITION p202510 VALUES LESS THAN (TO_DAYS('2025-11-01')),
+    PARTITION p202511 VALUES LESS THAN (TO_DAYS('2025-12-01')),
+    PARTITION p202512 VALUES LESS THAN (TO_DAYS('2026-01-01')),
+    PARTITION p202601 VALUES LESS THAN (TO_DAYS('2026-02-01')),
+    PARTITION p202602 VALUES LESS THAN (TO_DAYS('2026-03-01')),
+    PARTITION p202603 VALUES LESS THAN (TO_DAYS('2026-04-01')),
+    PARTITION p202604 VALUES LESS THAN (TO_DAYS('2026-05-01')),
+    PARTITION p202605 VALUES LESS THAN (TO_DAYS('2026-06-01')),
+    PARTITION p202606 VALUES LESS THAN (TO_DAYS('2026-07-01')),
+    PARTITION p202607 VALUES LESS THAN (TO_DAYS('2026-08-01')),
+    PARTITION p202608 VALUES LESS THAN (TO_DAYS('2026-09-01')),
+    PARTITION p202609 VALUES LESS THAN (TO_DAYS('2026-10-01')),
+    PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+    PARTITION p202611 VALUES LESS THAN (TO_DAYS('2026-12-01')),
+    PARTITION p202612 VALUES LESS THAN (TO_DAYS('2027-01-01')),
+    PARTITION p202701 VALUES LESS THAN (TO_DAYS('2027-02-01')),
+    PARTITION p202702 VALUES LESS THAN (TO_DAYS('2027-03-01')),
+    PARTITION p202703 VALUES LESS THAN (TO_DAYS('2027-04-01')),
+    PARTITION p202704 VALUES LESS THAN (TO_DAYS('2027-05-01')),
+    PARTITION p202705 VALUES LESS THAN (TO_DAYS('2027-06-01')),
+    PARTITION p202706 VALUES LESS THAN (TO_DAYS('2027-07-01')),
+    PARTITION p202707 VALUES LESS THAN (TO_DAYS('2027-08-01')),
+    PARTITION p202708 VALUES LESS THAN (TO_DAYS('2027-09-01')),
+    PARTITION p202709 VALUES LESS THAN (TO_DAYS('2027-10-01')),
+    PARTITION p202710 VALUES LESS THAN (TO_DAYS('2027-11-01')),
+    PARTITION p202711 VALUES LESS THAN (TO_DAYS('2027-12-01')),
+    PARTITION p202712 VALUES LESS THAN (TO_DAYS('2028-01-01')),
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+);
@@ -0,0 +1,84 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import com.infy.limiter.AdaptiveConcurrencyLimiter;
+
+/**
+ * Tests for {@link AdaptiveConcurrencyLimiter}.
+ * <p>
+ * Verifies fast rejection above the limit and that the limit grows under
+ * steady latency and shrinks on latency spikes and failures.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+	private static final long BASELINE = TimeUnit.MILLISECONDS.toNanos(10);
+
+	/**
+	 * Tests that requests beyond the limit are rejected and counted as shed.
+	 */
+	@Test
+	void testRejectsAboveLimit() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, 2.0);
+
+		assertTrue(limiter.tryAcquire());
+		assertTrue(limiter.tryAcquire());
+		assertFalse(limiter.tryAcquire());
+		assertEquals(1, limiter.getShedCount());
+	}
+
+	/**
+	 * Tests that a fully used limit grows while latency stays at the baseline.
+	 */
+	@Test
+	void testLimitGrowsUnderSteadyLatency() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 1, 100, 2.0);
+
+		for (int i = 0; i < 50; i++) {
+			saturateAndRelease(limiter, BASELINE, false);
+		}
+		assertTrue(limiter.getLimit() > 10);
+	}
+
+	/**
+	 * Tests that the limit shrinks when latency rises well above the baseline.
+	 */
+	@Test
+	void testLimitShrinksOnLatencySpike() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 50, 1, 100, 2.0);
+		saturateAndRelease(limiter, BASELINE, false);
+		int before = limiter.getLimit();
+
+		for (int i = 0; i < 3; i++) {
+			saturateAndRelease(limiter, BASELINE * 20, false);
+		}
+		assertTrue(limiter.getLimit() < before);
+	}
+
+	/**
+	 * Tests that failures back the limit off down to, but not below, the minimum.
+	 */
+	@Test
+	void testFailuresBackOffToMinimum() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 20, 3, 100, 2.0);
+
+		for (int i = 0; i < 100; i++) {
+			assertTrue(limiter.tryAcquire());
+			limiter.release(BASELINE, true);
+		}
+		assertEquals(3, limiter.getLimit());
+	}
+
+	private static void saturateAndRelease(AdaptiveConcurrencyLimiter limiter, long latency, boolean dropped) {
+		int acquired = 0;
+		while (limiter.tryAcquire()) {
+			acquired++;
+		}
+		for (int i = 0; i < acquired; i++) {
+			limiter.release(latency, dropped);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import com.infy.idempotency.BloomFilter;
+
+/**
+ * Tests for {@link BloomFilter}.
+ * <p>
+ * Fills a filter to its expected size and checks both guarantees the
+ * idempotency index relies on: no false negatives, and a false-positive rate
+ * close to the configured one.
+ * </p>
+ */
+public class BloomFilterTest {
+
+	private static final int EXPECTED_KEYS = 100_000;
+
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+
+	/**
+	 * Tests that every key that was put is reported as possibly present.
+	 */
+	@Test
+	void testNoFalseNegatives() {
+		BloomFilter filter = filled();
+
+		for (int i = 0; i < EXPECTED_KEYS; i++) {
+			assertTrue(filter.mightContain("key:customer-" + i), "False negative for key " + i);
+		}
+	}
+
+	/**
+	 * Tests that the false-positive rate at the expected size stays near the
+	 * configured 1%.
+	 */
+	@Test
+	void testFalsePositiveRateNearConfigured() {
+		BloomFilter filter = filled();
+
+		int probes = 200_000;
+		int falsePositives = 0;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain("sha256:absent-" + i)) {
+				falsePositives++;
+			}
+		}
+		double rate = (double) falsePositives / probes;
+		assertTrue(rate > FALSE_POSITIVE_RATE / 2 && rate < FALSE_POSITIVE_RATE * 1.5,
+				"False-positive rate " + rate + " is not near " + FALSE_POSITIVE_RATE);
+	}
+
+	/**
+	 * Tests that invalid sizing is rejected.
+	 */
+	@Test
+	void testInvalidSizingRejected() {
+		assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, FALSE_POSITIVE_RATE));
+		assertThrows(IllegalArgumentException.class, () -> new BloomFilter(EXPECTED_KEYS, 1.0));
+	}
+
+	private static BloomFilter filled() {
+		BloomFilter filter = new BloomFilter(EXPECTED_KEYS, FALSE_POSITIVE_RATE);
+		for (int i = 0; i < EXPECTED_KEYS; i++) {
+			filter.put("key:customer-" + i);
+		}
+		return filter;
+	}
+}
@@ -0,0 +1,131 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infy.limiter.AdaptiveConcurrencyLimiter;
+import com.infy.limiter.ConcurrencyLimitFilter;
+
+/**
+ * Tests for {@link ConcurrencyLimitFilter}.
+ * <p>
+ * Runs the filter in front of a stub controller with MockMvc. The limiters are
+ * filled by claiming their slots directly, so each case is deterministic.
+ * </p>
+ */
+public class ConcurrencyLimitFilterTest {
+
+	private AdaptiveConcurrencyLimiter readLimiter;
+
+	private AdaptiveConcurrencyLimiter writeLimiter;
+
+	private MockMvc mockMvc;
+
+	@RestController
+	static class StubController {
+
+		@GetMapping("/api/customers/1/rewards")
+		public String rewards() {
+			return "ok";
+		}
+
+		@PostMapping("/api/customers")
+		public String saveCustomer() {
+			return "ok";
+		}
+
+		@GetMapping("/api/customers/2/rewards")
+		public String failingRewards() {
+			throw new IllegalStateException("boom");
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		readLimiter = new AdaptiveConcurrencyLimiter("read", 10, 1, 100, 2.0);
+		writeLimiter = new AdaptiveConcurrencyLimiter("write", 5, 1, 100, 2.0);
+		mockMvc = MockMvcBuilders.standaloneSetup(new StubController())
+				.addFilters(new ConcurrencyLimitFilter(readLimiter, writeLimiter, 0.8, 1, new ObjectMapper()))
+				.build();
+	}
+
+	/**
+	 * Tests that requests within the limit pass and give their slot back.
+	 */
+	@Test
+	void testRequestWithinLimitPasses() throws Exception {
+		mockMvc.perform(get("/api/customers/1/rewards")).andExpect(status().isOk());
+
+		assertEquals(0, readLimiter.getInFlight());
+		assertEquals(0, readLimiter.getShedCount());
+	}
+
+	/**
+	 * Tests that a read over the limit gets 503 with Retry-After and the
+	 * ErrorDetails body.
+	 */
+	@Test
+	void testReadOverLimitIsShed() throws Exception {
+		claim(readLimiter, readLimiter.getLimit());
+
+		mockMvc.perform(get("/api/customers/1/rewards")).andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+				.andExpect(jsonPath("$.statusCode").value(503))
+				.andExpect(jsonPath("$.message").value("Server is busy, please retry later"))
+				.andExpect(jsonPath("$.details").value("uri=/api/customers/1/rewards"));
+
+		assertEquals(1, readLimiter.getShedCount());
+		assertEquals(readLimiter.getLimit(), readLimiter.getInFlight());
+	}
+
+	/**
+	 * Tests that writes yield to reads: a write is shed while read utilization
+	 * is at the threshold, even though the write limiter has free slots.
+	 */
+	@Test
+	void testWriteYieldsToBusyReads() throws Exception {
+		claim(readLimiter, 8);
+
+		mockMvc.perform(post("/api/customers")).andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+		assertEquals(1, writeLimiter.getShedCount());
+		assertEquals(0, writeLimiter.getInFlight());
+
+		readLimiter.release(1_000_000, false);
+		mockMvc.perform(post("/api/customers")).andExpect(status().isOk());
+		assertEquals(1, writeLimiter.getShedCount());
+	}
+
+	/**
+	 * Tests that the slot is released, and counted as dropped, when the request
+	 * fails with an exception.
+	 */
+	@Test
+	void testSlotReleasedOnException() {
+		int limitBefore = readLimiter.getLimit();
+
+		assertThrows(Exception.class, () -> mockMvc.perform(get("/api/customers/2/rewards")));
+
+		assertEquals(0, readLimiter.getInFlight());
+		assertTrue(readLimiter.getLimit() < limitBefore);
+	}
+
+	private static void claim(AdaptiveConcurrencyLimiter limiter, int slots) {
+		for (int i = 0; i < slots; i++) {
+			assertTrue(limiter.tryAcquire());
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infy.config.WebConfig;
+import com.infy.dto.CustomerDto;
+import com.infy.dto.TransactionDto;
+import com.infy.model.Customer;
+
+/**
+ * Integration tests for content negotiation on the RewardsController.
+ * <p>
+ * Verifies that Smile and CBOR requests and responses round-trip through the
+ * API and that JSON remains the default format.
+ * </p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource("classpath:application.properties")
+public class ContentNegotiationIntegrationTest {
+
+	private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(WebConfig.APPLICATION_SMILE_VALUE);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+	private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+
+	private CustomerDto customerDto;
+
+	/**
+	 * Sets up a sample customer DTO before each test.
+	 */
+	@BeforeEach
+	void setup() {
+		customerDto = new CustomerDto();
+		customerDto.setCustomerName("Ria");
+
+		TransactionDto transaction = new TransactionDto();
+		transaction.setAmount(120.0);
+		transaction.setDate(LocalDate.of(2024, 4, 15));
+		customerDto.setTransaction(List.of(transaction));
+	}
+
+	/**
+	 * Tests creating a customer with a Smile request and response body.
+	 */
+	@Test
+	void testCreateCustomerSmile() throws Exception {
+		Customer saved = createCustomerSmile();
+		assertEquals("Ria", saved.getCustomerName());
+	}
+
+	/**
+	 * Tests fetching rewards encoded as CBOR.
+	 */
+	@Test
+	void testGetRewardsCbor() throws Exception {
+		Customer saved = createCustomerSmile();
+
+		MvcResult result = mockMvc
+				.perform(get("/api/customers/" + saved.getCustomerId() + "/rewards").param("startDate", "2024-01-01")
+						.param("endDate", "2024-12-31").accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_CBOR)).andReturn();
+
+		Map<String, Object> rewards = cborMapper.readValue(result.getResponse().getContentAsByteArray(),
+				new TypeReference<Map<String, Object>>() {
+				});
+		assertEquals(90, rewards.get("Total Rewards"));
+	}
+
+	/**
+	 * Tests that JSON is returned when the client does not ask for a format.
+	 */
+	@Test
+	void testGetRewardsDefaultsToJson() throws Exception {
+		Customer saved = createCustomerSmile();
+
+		mockMvc.perform(get("/api/customers/" + saved.getCustomerId() + "/rewards").param("startDate", "2024-01-01")
+				.param("endDate", "2024-12-31")).andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+	}
+
+	private Customer createCustomerSmile() throws Exception {
+		MvcResult result = mockMvc
+				.perform(post("/api/customers").contentType(APPLICATION_SMILE).accept(APPLICATION_SMILE)
+						.content(smileMapper.writeValueAsBytes(customerDto)))
+				.andExpect(status().isCreated()).andExpect(content().contentType(APPLICATION_SMILE)).andReturn();
+		return smileMapper.readValue(result.getResponse().getContentAsByteArray(), Customer.class);
+	}
+}
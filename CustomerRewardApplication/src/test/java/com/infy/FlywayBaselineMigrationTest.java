@@ -0,0 +1,86 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.infy.model.Customer;
+import com.infy.model.OutboxEvent;
+import com.infy.repository.CustomerRepository;
+import com.infy.repository.OutboxEventRepository;
+
+/**
+ * Tests that Flyway upgrades a database created by {@code ddl-auto=update}.
+ * <p>
+ * The embedded H2 database starts with only the customer and transaction
+ * tables, Flyway baselines it at V1 as in the main configuration, and Hibernate
+ * validates the migrated schema on startup.
+ * </p>
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:legacy;MODE=MySQL;DATABASE_TO_LOWER=TRUE;INIT=RUNSCRIPT FROM 'classpath:db/ddl-auto-schema.sql'",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=validate", "spring.flyway.baseline-on-migrate=true",
+		"spring.flyway.baseline-version=1",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false" })
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+public class FlywayBaselineMigrationTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	/**
+	 * Tests that the existing tables are baselined, not recreated, and every
+	 * migration after V1 is applied.
+	 */
+	@Test
+	void testBaselinedDatabaseGetsLaterMigrations() {
+		List<String> history = jdbcTemplate.queryForList(
+				"SELECT CONCAT(version, ' ', type) FROM \"flyway_schema_history\" WHERE version IS NOT NULL AND success ORDER BY installed_rank",
+				String.class);
+
+		assertEquals(List.of("1 BASELINE", "1.1 SQL", "2 SQL", "4 SQL"), history);
+	}
+
+	/**
+	 * Tests that the outbox table and its index exist after the upgrade.
+	 */
+	@Test
+	void testOutboxTableCreatedOnBaselinedDatabase() {
+		assertEquals(1, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM information_schema.indexes WHERE table_name = 'outbox_event' AND index_name = 'idx_outbox_unpublished'",
+				Integer.class));
+
+		OutboxEvent event = outboxEventRepository.save(new OutboxEvent(null, OutboxEvent.POINTS_EARNED, 1L, 1L,
+				120.0, LocalDate.now(), 90, Instant.now(), null));
+		assertNotNull(event.getId());
+	}
+
+	/**
+	 * Tests that the idempotency key column was added to the existing customer
+	 * table.
+	 */
+	@Test
+	void testIdempotencyKeyAddedToExistingCustomerTable() {
+		Customer customer = new Customer();
+		customer.setCustomerName("Legacy");
+		customer.setIdempotencyKey("key:legacy");
+		customerRepository.saveAndFlush(customer);
+
+		assertEquals(customer.getCustomerId(),
+				customerRepository.findByIdempotencyKey("key:legacy").map(Customer::getCustomerId).orElse(null));
+	}
+}
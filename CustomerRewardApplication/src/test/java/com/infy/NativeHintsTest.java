@@ -0,0 +1,62 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.interceptor.TransactionalProxy;
+import com.infy.config.NativeHints;
+import com.infy.dto.RewardAnalyticsDto;
+import com.infy.dto.SimulationRequestDto;
+import com.infy.dto.SimulationResultDto;
+import com.infy.model.OutboxEvent;
+import com.infy.repository.CustomerRepository;
+import com.infy.repository.OutboxEventRepository;
+import com.infy.repository.TransactionRepository;
+
+/**
+ * Tests for {@link NativeHints}.
+ * <p>
+ * Checks that the package scan picks up every entity, DTO (including nested
+ * ones) and repository, so types added after the hints were written are
+ * covered in the native image.
+ * </p>
+ */
+public class NativeHintsTest {
+
+	private RuntimeHints hints;
+
+	@BeforeEach
+	void setUp() {
+		hints = new RuntimeHints();
+		new NativeHints().registerHints(hints, getClass().getClassLoader());
+	}
+
+	/**
+	 * Tests that entities and DTOs, including nested DTO types, get reflection
+	 * hints.
+	 */
+	@Test
+	void testBoundTypesRegistered() {
+		for (Class<?> type : new Class<?>[] { OutboxEvent.class, SimulationRequestDto.class,
+				SimulationResultDto.class, SimulationResultDto.PointsDelta.class, RewardAnalyticsDto.class,
+				RewardAnalyticsDto.MonthSummary.class }) {
+			assertTrue(RuntimeHintsPredicates.reflection().onType(type).test(hints), "No hint for " + type);
+		}
+	}
+
+	/**
+	 * Tests that every repository gets a JDK proxy hint.
+	 */
+	@Test
+	void testRepositoryProxiesRegistered() {
+		for (Class<?> repository : new Class<?>[] { CustomerRepository.class, TransactionRepository.class,
+				OutboxEventRepository.class }) {
+			assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(
+					AopProxyUtils.completeJdkProxyInterfaces(repository, Repository.class, TransactionalProxy.class))
+					.test(hints), "No proxy hint for " + repository);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+import com.infy.model.OutboxEvent;
+import com.infy.outbox.OutboxRelay;
+import com.infy.outbox.RewardEventSink;
+import com.infy.repository.OutboxEventRepository;
+
+/**
+ * Integration tests for the outbox relay.
+ * <p>
+ * Replaces the logging sink with a recording one that can be made to fail, and
+ * drives the relay directly; the scheduled polls are pushed out of the way with
+ * long intervals.
+ * </p>
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.properties", properties = {
+		"rewards.outbox.relay-enabled=true", "rewards.outbox.batch-size=2",
+		"rewards.outbox.poll-interval-ms=3600000", "rewards.outbox.purge-interval-ms=3600000",
+		"rewards.outbox.retention=P7D" })
+public class OutboxRelayTest {
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private RecordingSink sink;
+
+	@TestConfiguration
+	static class SinkConfig {
+
+		@Bean
+		RecordingSink recordingSink() {
+			return new RecordingSink();
+		}
+	}
+
+	/**
+	 * Sink that records the event IDs of every batch, or throws while
+	 * {@code failing} is set.
+	 */
+	static class RecordingSink implements RewardEventSink {
+
+		final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+
+		volatile boolean failing;
+
+		@Override
+		public void publish(List<OutboxEvent> events) {
+			batches.add(events.stream().map(OutboxEvent::getId).toList());
+			if (failing) {
+				throw new IllegalStateException("sink unavailable");
+			}
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		outboxEventRepository.deleteAll();
+		sink.batches.clear();
+		sink.failing = false;
+	}
+
+	/**
+	 * Tests that the relay claims full batches in insertion order until the
+	 * outbox is drained, and marks every event published.
+	 */
+	@Test
+	void testRelayPublishesInBatchesAndMarksPublished() {
+		List<Long> ids = saveEvents(5, null);
+
+		outboxRelay.relay();
+
+		assertEquals(List.of(ids.subList(0, 2), ids.subList(2, 4), ids.subList(4, 5)), sink.batches);
+		outboxEventRepository.findAll().forEach(event -> assertNotNull(event.getPublishedAt()));
+	}
+
+	/**
+	 * Tests that a failing sink stops the drain and leaves the claimed batch
+	 * unpublished for the next poll.
+	 */
+	@Test
+	void testRelayLeavesEventsUnpublishedWhenSinkFails() {
+		List<Long> ids = saveEvents(3, null);
+		sink.failing = true;
+
+		outboxRelay.relay();
+
+		assertEquals(List.of(ids.subList(0, 2)), sink.batches);
+		outboxEventRepository.findAll().forEach(event -> assertNull(event.getPublishedAt()));
+
+		sink.failing = false;
+		sink.batches.clear();
+		outboxRelay.relay();
+
+		assertEquals(List.of(ids.subList(0, 2), ids.subList(2, 3)), sink.batches);
+		outboxEventRepository.findAll().forEach(event -> assertNotNull(event.getPublishedAt()));
+	}
+
+	/**
+	 * Tests that purge removes only events published before the retention
+	 * window.
+	 */
+	@Test
+	void testPurgeDeletesOnlyExpiredPublishedEvents() {
+		saveEvents(2, Instant.now().minus(Duration.ofDays(8)));
+		List<Long> recent = saveEvents(1, Instant.now().minus(Duration.ofDays(1)));
+		List<Long> pending = saveEvents(1, null);
+
+		outboxRelay.purge();
+
+		List<Long> remaining = outboxEventRepository.findAll().stream().map(OutboxEvent::getId).sorted().toList();
+		assertEquals(List.of(recent.get(0), pending.get(0)), remaining);
+	}
+
+	private List<Long> saveEvents(int count, Instant publishedAt) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> outboxEventRepository.save(new OutboxEvent(null, OutboxEvent.POINTS_EARNED, 1L,
+						(long) i, 120.0, LocalDate.now(), 90, Instant.now(), publishedAt)))
+				.map(OutboxEvent::getId).toList();
+	}
+}
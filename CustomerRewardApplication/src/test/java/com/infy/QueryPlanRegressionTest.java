@@ -0,0 +1,195 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.infy.model.Customer;
+import com.infy.model.OutboxEvent;
+import com.infy.model.Transaction;
+import com.infy.repository.CustomerRepository;
+import com.infy.repository.OutboxEventRepository;
+import com.infy.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Query plan regression tests for the repository queries.
+ * <p>
+ * Runs the Flyway migrations on an embedded H2 database in MySQL mode, records
+ * the SQL Hibernate issues for each repository method, and fails if
+ * {@code EXPLAIN} shows a full table scan for any of it.
+ * </p>
+ */
+@DataJpaTest(properties = { "spring.datasource.url=jdbc:h2:mem:plans;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=none",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=com.infy.QueryPlanRegressionTest$RecordingStatementInspector" })
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+public class QueryPlanRegressionTest {
+
+	private static final String FULL_SCAN = "tableScan";
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long customerId;
+
+	private String idempotencyKey;
+
+	/**
+	 * Loads enough customers, transactions and outbox events for the planner to
+	 * prefer indexes, then clears the persistence context so every lookup hits
+	 * the database.
+	 */
+	@BeforeEach
+	void setup() {
+		for (int c = 0; c < 50; c++) {
+			Customer customer = new Customer();
+			customer.setCustomerName("Customer " + c);
+			// ANALYZE commits, so keys must stay unique across setups
+			customer.setIdempotencyKey("key:" + UUID.randomUUID());
+			List<Transaction> transactions = new ArrayList<>();
+			for (int t = 0; t < 20; t++) {
+				transactions.add(new Transaction(null, 40 + t * 5, LocalDate.of(2024, 1, 1).plusDays(t * 15), customer));
+			}
+			customer.setTransaction(transactions);
+			customerRepository.save(customer);
+			customerId = customer.getCustomerId();
+			idempotencyKey = customer.getIdempotencyKey();
+
+			for (Transaction transaction : transactions) {
+				outboxEventRepository.save(new OutboxEvent(null, OutboxEvent.POINTS_EARNED, customerId,
+						transaction.getTransactionId(), transaction.getAmount(), transaction.getDate(), 10,
+						Instant.now(), transaction.getTransactionId() % 2 == 0 ? Instant.now() : null));
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+		jdbcTemplate.execute("ANALYZE");
+		RecordingStatementInspector.STATEMENTS.clear();
+	}
+
+	/**
+	 * Tests the date-range lookup used by the rewards calculation.
+	 */
+	@Test
+	void testFindByCustomerAndDateRangeUsesIndex() {
+		LocalDate start = LocalDate.of(2024, 3, 1);
+		LocalDate end = LocalDate.of(2024, 5, 31);
+		transactionRepository.findByCustomerCustomerIdAndDateBetween(customerId, start, end);
+		assertNoFullScan(customerId, start, end);
+	}
+
+	/**
+	 * Tests the all-transactions lookup for a customer.
+	 */
+	@Test
+	void testFindByCustomerUsesIndex() {
+		transactionRepository.findByCustomerCustomerId(customerId);
+		assertNoFullScan(customerId);
+	}
+
+	/**
+	 * Tests the customer primary-key lookup.
+	 */
+	@Test
+	void testFindCustomerByIdUsesPrimaryKey() {
+		customerRepository.findById(customerId);
+		assertNoFullScan(customerId);
+	}
+
+	/**
+	 * Tests the outbox relay's unpublished-batch claim.
+	 */
+	@Test
+	void testFindUnpublishedOutboxEventsUsesIndex() {
+		outboxEventRepository.findUnpublishedForUpdate(PageRequest.of(0, 100));
+		assertNoFullScan(100);
+	}
+
+	/**
+	 * Tests the duplicate-submission lookup on the idempotency key.
+	 */
+	@Test
+	void testFindByIdempotencyKeyUsesUniqueIndex() {
+		customerRepository.findByIdempotencyKey(idempotencyKey);
+		List<String> plans = explainSelects(idempotencyKey);
+		assertTrue(plans.stream().allMatch(plan -> plan.contains("uk_customer_idempotency_key")),
+				"Idempotency key lookup does not use uk_customer_idempotency_key:\n" + plans);
+	}
+
+	/**
+	 * Explains every SELECT recorded since setup. Parameters are bound
+	 * positionally; follow-up statements such as eager loads take the leading
+	 * parameters, which for these queries is always the looked-up key.
+	 */
+	private void assertNoFullScan(Object... params) {
+		for (String plan : explainSelects(params)) {
+			assertFalse(plan.contains(FULL_SCAN), "Full table scan:\n" + plan);
+		}
+	}
+
+	/**
+	 * Returns the SQL and {@code EXPLAIN} output of every SELECT recorded since
+	 * setup, one entry per statement.
+	 */
+	private List<String> explainSelects(Object... params) {
+		List<String> selects = RecordingStatementInspector.STATEMENTS.stream()
+				.filter(sql -> sql.trim().toLowerCase().startsWith("select")).toList();
+		assertFalse(selects.isEmpty(), "No SELECT statements were recorded");
+
+		List<String> plans = new ArrayList<>();
+		for (String sql : selects) {
+			String explainable = sql.replaceAll("(?is)\\s+for\\s+update.*$", "");
+			int placeholders = (int) explainable.chars().filter(ch -> ch == '?').count();
+			List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + explainable,
+					Arrays.copyOf(params, placeholders));
+			plans.add(sql + "\nPlan:\n" + rows.stream().flatMap(row -> row.values().stream())
+					.map(String::valueOf).collect(Collectors.joining("\n")));
+		}
+		return plans;
+	}
+
+	/**
+	 * Hibernate statement inspector that records every SQL statement issued.
+	 */
+	public static class RecordingStatementInspector implements StatementInspector {
+
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.infy.analytics.HyperLogLog;
+import com.infy.analytics.ProgramAnalytics;
+import com.infy.analytics.QuantileSketch;
+
+/**
+ * Tests for the reward analytics sketches.
+ * <p>
+ * Verifies the error bounds of {@link HyperLogLog} and {@link QuantileSketch}
+ * and that {@link ProgramAnalytics} survives a snapshot round trip with the
+ * counted tail it needs for replay.
+ * </p>
+ */
+public class RewardAnalyticsSketchTest {
+
+	/**
+	 * Tests that distinct counts stay within 3% (about four standard errors)
+	 * and ignore repeats.
+	 */
+	@Test
+	void testHyperLogLogEstimate() {
+		HyperLogLog sketch = new HyperLogLog();
+		for (long id = 1; id <= 200_000; id++) {
+			sketch.add(id);
+			sketch.add(id);
+		}
+		assertEquals(200_000, sketch.estimate(), 6_000);
+
+		HyperLogLog small = new HyperLogLog();
+		for (long id = 1; id <= 100; id++) {
+			small.add(id);
+		}
+		assertEquals(100, small.estimate(), 2);
+	}
+
+	/**
+	 * Tests that merging equals adding both inputs to one sketch.
+	 */
+	@Test
+	void testHyperLogLogMerge() {
+		HyperLogLog left = new HyperLogLog();
+		HyperLogLog right = new HyperLogLog();
+		HyperLogLog both = new HyperLogLog();
+		for (long id = 1; id <= 50_000; id++) {
+			(id % 2 == 0 ? left : right).add(id);
+			both.add(id);
+		}
+		left.merge(right);
+		assertEquals(both.estimate(), left.estimate());
+	}
+
+	/**
+	 * Tests that quantiles are within the configured 1% relative error (with a
+	 * little slack for floating-point bucket boundaries).
+	 */
+	@Test
+	void testQuantileSketchRelativeError() {
+		QuantileSketch sketch = new QuantileSketch(0.01, 0.01, 1_000_000_000);
+		for (int cents = 1; cents <= 1_000_000; cents++) {
+			sketch.add(cents / 100.0);
+		}
+		assertEquals(5000.0, sketch.quantile(0.50), 55.0);
+		assertEquals(9500.0, sketch.quantile(0.95), 105.0);
+		assertEquals(9900.0, sketch.quantile(0.99), 109.0);
+		assertEquals(1_000_000, sketch.getCount());
+	}
+
+	/**
+	 * Tests that a snapshot restores counters and sketches exactly.
+	 */
+	@Test
+	void testProgramAnalyticsSnapshotRoundTrip(@TempDir Path directory) throws IOException {
+		ProgramAnalytics analytics = new ProgramAnalytics();
+		analytics.add(1, LocalDate.of(2024, 1, 15), 120.0, 90);
+		analytics.add(2, LocalDate.of(2024, 1, 20), 70.0, 20);
+		analytics.add(2, LocalDate.of(2024, 2, 10), 40.0, 0);
+
+		Path snapshot = directory.resolve("analytics.snapshot");
+		analytics.writeTo(snapshot);
+		ProgramAnalytics restored = ProgramAnalytics.readFrom(snapshot);
+
+		ProgramAnalytics.Month january = restored.getMonths().get(YearMonth.of(2024, 1));
+		assertEquals(110, january.getPoints());
+		assertEquals(2, january.getTransactions());
+		assertEquals(2, january.getActiveCustomers());
+		assertEquals(110, restored.getAllMonths().getPoints());
+		assertEquals(2, restored.getHighWaterCustomerId());
+		assertEquals(analytics.getAllMonths().amountQuantile(0.5), restored.getAllMonths().amountQuantile(0.5));
+		assertTrue(restored.getMonths().containsKey(YearMonth.of(2024, 2)));
+	}
+
+	/**
+	 * Tests that a customer ID skipped below the high-water mark, as when
+	 * saves commit out of ID order, is still replayed after a restore, while
+	 * IDs below the tail window are treated as counted.
+	 */
+	@Test
+	void testProgramAnalyticsTracksCountedTail(@TempDir Path directory) throws IOException {
+		ProgramAnalytics analytics = new ProgramAnalytics();
+		analytics.add(1, LocalDate.of(2024, 1, 15), 120.0, 90);
+		analytics.add(3, LocalDate.of(2024, 1, 20), 70.0, 20);
+
+		Path snapshot = directory.resolve("analytics.snapshot");
+		analytics.writeTo(snapshot);
+		ProgramAnalytics restored = ProgramAnalytics.readFrom(snapshot);
+
+		assertEquals(0, restored.getReplayFromCustomerId());
+		assertTrue(restored.isCounted(1));
+		assertFalse(restored.isCounted(2));
+		assertTrue(restored.isCounted(3));
+
+		long far = 3 + ProgramAnalytics.TAIL_WINDOW + 10;
+		restored.add(far, LocalDate.of(2024, 2, 1), 50.0, 0);
+		assertEquals(far - ProgramAnalytics.TAIL_WINDOW, restored.getReplayFromCustomerId());
+		assertTrue(restored.isCounted(2));
+		assertEquals(Set.of(far), restored.getTailCustomerIds());
+	}
+}
@@ -0,0 +1,190 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.TestPropertySource;
+import com.infy.dto.SimulationRequestDto;
+import com.infy.dto.SimulationResultDto;
+import com.infy.dto.SimulationResultDto.Status;
+import com.infy.exception.InvalidRequestException;
+import com.infy.exception.SimulationInProgressException;
+import com.infy.model.Customer;
+import com.infy.model.Transaction;
+import com.infy.service.RewardSimulationService;
+import com.infy.service.RewardsService;
+
+/**
+ * Integration tests for {@link RewardSimulationService} against the actual
+ * database.
+ * <p>
+ * Verifies that simulations scan the transaction history, report deltas
+ * between the current and candidate rules, and reject invalid tiers. The
+ * DataSource is wrapped in a {@link GatedDataSource} so a test can hold a
+ * simulation at its first query.
+ * </p>
+ */
+@SpringBootTest
+@TestPropertySource("classpath:application.properties")
+public class RewardSimulationIntegrationTest {
+
+	@Autowired
+	private RewardSimulationService simulationService;
+
+	@Autowired
+	private RewardsService rewardsService;
+
+	@TestConfiguration
+	static class GateConfig {
+
+		@Bean
+		static BeanPostProcessor gatedDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource && !(bean instanceof GatedDataSource)
+							? new GatedDataSource(dataSource)
+							: bean;
+				}
+			};
+		}
+	}
+
+	/**
+	 * DataSource that, while closed, makes every thread except the one that
+	 * closed it wait before getting a connection.
+	 */
+	static class GatedDataSource extends DelegatingDataSource {
+
+		private static volatile CountDownLatch gate = new CountDownLatch(0);
+
+		private static volatile Thread owner;
+
+		GatedDataSource(DataSource dataSource) {
+			super(dataSource);
+		}
+
+		static void close() {
+			owner = Thread.currentThread();
+			gate = new CountDownLatch(1);
+		}
+
+		static void open() {
+			gate.countDown();
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (Thread.currentThread() != owner) {
+				try {
+					gate.await(30, TimeUnit.SECONDS);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new SQLException("Interrupted at the test gate", ex);
+				}
+			}
+			return super.getConnection();
+		}
+	}
+
+	/**
+	 * Saves a customer with one $120 transaction (90 points under the current
+	 * rules) so the history is never empty.
+	 */
+	@BeforeEach
+	void setup() {
+		Customer customer = new Customer();
+		customer.setCustomerName("Finance");
+		Transaction transaction = new Transaction();
+		transaction.setAmount(120.0);
+		transaction.setDate(LocalDate.of(2024, 6, 10));
+		transaction.setCustomer(customer);
+		customer.setTransaction(List.of(transaction));
+		rewardsService.saveCustomer(customer);
+	}
+
+	/**
+	 * Tests that simulating the current rules yields no delta.
+	 */
+	@Test
+	void testSimulateCurrentRulesHasNoDelta() throws Exception {
+		SimulationResultDto result = awaitResult(new SimulationRequestDto(50.0, 100.0, 1.0, 2.0, null));
+
+		assertEquals(Status.COMPLETED, result.getStatus());
+		assertTrue(result.getTransactionsScanned() > 0);
+		assertEquals(0, result.getTotal().getDelta());
+		assertTrue(result.getByMonth().stream().allMatch(month -> month.getDelta() == 0));
+	}
+
+	/**
+	 * Tests that a richer upper tier increases the point liability.
+	 */
+	@Test
+	void testSimulateRicherUpperTier() throws Exception {
+		SimulationResultDto result = awaitResult(new SimulationRequestDto(50.0, 100.0, 1.0, 3.0, List.of(0L, 50L)));
+
+		assertEquals(Status.COMPLETED, result.getStatus());
+		assertTrue(result.getTotal().getDelta() > 0);
+		assertEquals(2, result.getByCustomerBucket().size());
+		assertEquals(result.getCustomersScanned(),
+				result.getByCustomerBucket().stream().mapToLong(SimulationResultDto.PointsDelta::getCount).sum());
+	}
+
+	/**
+	 * Tests that an upper threshold below the lower threshold is rejected.
+	 */
+	@Test
+	void testSimulateInvalidThresholds() {
+		Exception ex = assertThrows(InvalidRequestException.class,
+				() -> simulationService.startSimulation(new SimulationRequestDto(100.0, 50.0, 1.0, 2.0, null)));
+		assertTrue(ex.getMessage().contains("Upper threshold cannot be below lower threshold"));
+	}
+
+	/**
+	 * Tests that a second simulation is rejected instead of queued while the
+	 * first one is held at the gate.
+	 */
+	@Test
+	void testSimulateWhileRunningIsRejected() throws Exception {
+		SimulationRequestDto request = new SimulationRequestDto(50.0, 100.0, 1.0, 2.0, null);
+		String simulationId;
+		GatedDataSource.close();
+		try {
+			simulationId = simulationService.startSimulation(request).getSimulationId();
+
+			assertThrows(SimulationInProgressException.class, () -> simulationService.startSimulation(request));
+			assertEquals(Status.RUNNING, simulationService.getSimulation(simulationId).getStatus());
+		} finally {
+			GatedDataSource.open();
+		}
+		assertEquals(Status.COMPLETED, awaitResult(simulationId).getStatus());
+		assertEquals(Status.COMPLETED, awaitResult(request).getStatus());
+	}
+
+	private SimulationResultDto awaitResult(SimulationRequestDto request) throws InterruptedException {
+		return awaitResult(simulationService.startSimulation(request).getSimulationId());
+	}
+
+	private SimulationResultDto awaitResult(String simulationId) throws InterruptedException {
+		SimulationResultDto result = simulationService.getSimulation(simulationId);
+		for (int i = 0; i < 300 && result.getStatus() == Status.RUNNING; i++) {
+			Thread.sleep(100);
+			result = simulationService.getSimulation(simulationId);
+		}
+		return result;
+	}
+}
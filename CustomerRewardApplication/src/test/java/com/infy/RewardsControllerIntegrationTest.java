@@ -1,5 +1,6 @@
 package com.infy;
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -7,6 +8,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.infy.dto.CustomerDto;
 import com.infy.dto.TransactionDto;
 import com.infy.model.Customer;
+import com.infy.repository.CustomerRepository;
 
 /**
  * Integration tests for the RewardsController.
@@ -39,6 +42,9 @@ public class RewardsControllerIntegrationTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	@Autowired
+	private CustomerRepository customerRepository;
+
 	private CustomerDto customerDto;
 
 	/**
@@ -62,7 +68,8 @@ public class RewardsControllerIntegrationTest {
 	void testCreateCustomerSuccess() throws Exception {
 		mockMvc.perform(post("/api/customers").contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(customerDto))).andExpect(status().isCreated())
-				.andExpect(jsonPath("$.customerName").value("Sam"));
+				.andExpect(jsonPath("$.customerName").value("Sam"))
+				.andExpect(jsonPath("$.idempotencyKey").doesNotExist());
 	}
 
 	/**
@@ -99,6 +106,54 @@ public class RewardsControllerIntegrationTest {
 				.andExpect(content().string(containsString("Customer data is missing")));
 	}
 
+	/**
+	 * Tests that the Idempotency-Key header is stored with its prefix and a
+	 * retry with the same key returns the original customer, even with a
+	 * different payload.
+	 */
+	@Test
+	void testCreateCustomerWithIdempotencyKey() throws Exception {
+		String key = UUID.randomUUID().toString();
+		MvcResult first = mockMvc.perform(post("/api/customers").header("Idempotency-Key", key)
+				.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(customerDto)))
+				.andExpect(status().isCreated()).andReturn();
+		Customer saved = objectMapper.readValue(first.getResponse().getContentAsString(), Customer.class);
+
+		assertEquals(saved.getCustomerId(),
+				customerRepository.findByIdempotencyKey("key:" + key).map(Customer::getCustomerId).orElse(null));
+
+		customerDto.setCustomerName("Sam Retry");
+		MvcResult retry = mockMvc.perform(post("/api/customers").header("Idempotency-Key", key)
+				.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(customerDto)))
+				.andReturn();
+		Customer original = objectMapper.readValue(retry.getResponse().getContentAsString(), Customer.class);
+
+		assertEquals(saved.getCustomerId(), original.getCustomerId());
+		assertEquals("Sam", original.getCustomerName());
+	}
+
+	/**
+	 * Tests that a blank Idempotency-Key header is rejected.
+	 */
+	@Test
+	void testCreateCustomerBlankIdempotencyKey() throws Exception {
+		mockMvc.perform(post("/api/customers").header("Idempotency-Key", "   ")
+				.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(customerDto)))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string(containsString("Idempotency key must be between 1 and 64 characters.")));
+	}
+
+	/**
+	 * Tests that an Idempotency-Key header over 64 characters is rejected.
+	 */
+	@Test
+	void testCreateCustomerIdempotencyKeyTooLong() throws Exception {
+		mockMvc.perform(post("/api/customers").header("Idempotency-Key", "k".repeat(65))
+				.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(customerDto)))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string(containsString("Idempotency key must be between 1 and 64 characters.")));
+	}
+
 	/**
 	 * Tests reward calculation for a valid customer and transaction.
 	 */
@@ -113,7 +168,8 @@ public class RewardsControllerIntegrationTest {
 
 		mockMvc.perform(get("/api/customers/" + savedCustomer.getCustomerId() + "/rewards")
 				.param("startDate", "2024-01-01").param("endDate", "2024-12-31")).andExpect(status().isOk())
-				.andExpect(jsonPath("$['Total Rewards']").value(90));
+				.andExpect(jsonPath("$['Total Rewards']").value(90))
+				.andExpect(jsonPath("$['Customer Details'].idempotencyKey").doesNotExist());
 	}
 
 	/**
@@ -0,0 +1,154 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infy.dto.CustomerDto;
+import com.infy.dto.TransactionDto;
+import com.infy.model.Customer;
+import com.infy.sqlstats.SqlAccountingFilter;
+
+/**
+ * Query budget tests for the RewardsController endpoints.
+ * <p>
+ * Reads the statement and row counts reported by {@link SqlAccountingFilter}
+ * and fails when an endpoint issues more SQL than its declared budget, when
+ * the rewards lookup issues more statements for a customer with more
+ * transactions (N+1).
+ * </p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource("classpath:application.properties")
+public class RewardsControllerQueryBudgetTest {
+
+	/**
+	 * Date-range query, the customer row (unless cached) and the lazy load of
+	 * the customer's whole transaction collection, which Jackson triggers when
+	 * it serializes "Customer Details".
+	 */
+	private static final int GET_REWARDS_BUDGET = 3;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	/**
+	 * Tests that the rewards lookup stays within budget and issues no
+	 * per-transaction statements.
+	 */
+	@Test
+	void testGetRewardsWithinQueryBudget() throws Exception {
+		getRewards(createCustomer(6, 0));
+	}
+
+	/**
+	 * Tests that the rewards lookup issues the same statements for a customer
+	 * with one transaction as for one with many.
+	 */
+	@Test
+	void testGetRewardsStatementsIndependentOfTransactionCount() throws Exception {
+		MvcResult one = getRewards(createCustomer(1, 0));
+		MvcResult many = getRewards(createCustomer(9, 0));
+
+		assertEquals(one.getResponse().getHeader(SqlAccountingFilter.STATEMENTS_HEADER),
+				many.getResponse().getHeader(SqlAccountingFilter.STATEMENTS_HEADER));
+	}
+
+	/**
+	 * Tests that transactions outside the requested range add no statements.
+	 * <p>
+	 * Serializing "Customer Details" still reads the customer's whole history
+	 * (see the README); that is a known finding, so only the statement budget
+	 * is asserted here, not the rows read.
+	 * </p>
+	 */
+	@Test
+	void testGetRewardsHistoryOutsideRangeAddsNoStatements() throws Exception {
+		MvcResult inRangeOnly = getRewards(createCustomer(3, 0));
+		MvcResult withHistory = getRewards(createCustomer(3, 5));
+
+		assertEquals(inRangeOnly.getResponse().getHeader(SqlAccountingFilter.STATEMENTS_HEADER),
+				withHistory.getResponse().getHeader(SqlAccountingFilter.STATEMENTS_HEADER));
+	}
+
+	/**
+	 * Tests that customer ingestion stays within budget.
+	 */
+	@Test
+	void testCreateCustomerWithinQueryBudget() throws Exception {
+		createCustomer(4, 0);
+	}
+
+	/**
+	 * Customer insert and idempotency lookup, plus one transaction insert and
+	 * one outbox insert per transaction; IDENTITY keys rule out JDBC batching.
+	 */
+	private static int postCustomerBudget(int transactions) {
+		return 2 + 2 * transactions;
+	}
+
+	private MvcResult getRewards(Customer customer) throws Exception {
+		return mockMvc
+				.perform(get("/api/customers/" + customer.getCustomerId() + "/rewards")
+						.param("startDate", "2024-01-01").param("endDate", "2024-12-31"))
+				.andExpect(status().isOk()).andExpect(withinQueryBudget(GET_REWARDS_BUDGET))
+				.andExpect(noRepeatedStatements()).andReturn();
+	}
+
+	/**
+	 * Saves a customer with {@code inRange} transactions in 2024, the range the
+	 * lookups ask for, and {@code before} transactions in 2023.
+	 */
+	private Customer createCustomer(int inRange, int before) throws Exception {
+		List<TransactionDto> transactions = new ArrayList<>();
+		for (int i = 0; i < inRange; i++) {
+			transactions.add(new TransactionDto(110.0 + i, LocalDate.of(2024, 1 + i % 3, 10 + i)));
+		}
+		for (int i = 0; i < before; i++) {
+			transactions.add(new TransactionDto(110.0 + i, LocalDate.of(2023, 1 + i % 3, 10 + i)));
+		}
+		int transactionCount = transactions.size();
+		CustomerDto customerDto = new CustomerDto("Budget " + System.nanoTime(), transactions);
+
+		MvcResult result = mockMvc
+				.perform(post("/api/customers").contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(customerDto)))
+				.andExpect(status().isCreated()).andExpect(withinQueryBudget(postCustomerBudget(transactionCount)))
+				.andReturn();
+		return objectMapper.readValue(result.getResponse().getContentAsString(), Customer.class);
+	}
+
+	private static ResultMatcher withinQueryBudget(int budget) {
+		return result -> {
+			String header = result.getResponse().getHeader(SqlAccountingFilter.STATEMENTS_HEADER);
+			assertNotNull(header, "SQL accounting is not enabled");
+			int statements = Integer.parseInt(header);
+			assertTrue(statements <= budget, "Query budget exceeded: " + statements + " statements, budget " + budget);
+		};
+	}
+
+	private static ResultMatcher noRepeatedStatements() {
+		return result -> {
+			int repeats = Integer.parseInt(result.getResponse().getHeader(SqlAccountingFilter.MAX_REPEATS_HEADER));
+			assertTrue(repeats <= 1, "Same query executed " + repeats + " times in one request");
+		};
+	}
+}
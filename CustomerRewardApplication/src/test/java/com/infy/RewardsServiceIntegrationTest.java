@@ -6,16 +6,24 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
+import com.infy.dto.RewardAnalyticsDto;
+import com.infy.dto.RewardAnalyticsDto.MonthSummary;
 import com.infy.model.Customer;
+import com.infy.model.OutboxEvent;
 import com.infy.model.Transaction;
 import com.infy.repository.CustomerRepository;
+import com.infy.repository.OutboxEventRepository;
 import com.infy.repository.TransactionRepository;
+import com.infy.service.RewardAnalyticsService;
 import com.infy.service.RewardsService;
+import jakarta.persistence.EntityManagerFactory;
 
 /**
  * Integration tests for {@link RewardsService} using Spring context and actual
@@ -38,6 +46,15 @@ public class RewardsServiceIntegrationTest {
 	@Autowired
 	private TransactionRepository transactionRepository;
 
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private RewardAnalyticsService rewardAnalyticsService;
+
 	private Customer customer;
 	private Transaction transaction;
 
@@ -47,6 +64,7 @@ public class RewardsServiceIntegrationTest {
 	 */
 	@BeforeEach
 	void setup() {
+		outboxEventRepository.deleteAll();
 		transactionRepository.deleteAll();
 		customerRepository.deleteAll();
 
@@ -72,6 +90,86 @@ public class RewardsServiceIntegrationTest {
 		assertEquals("John", saved.getCustomerName());
 	}
 
+	/**
+	 * Tests that resubmitting the same payload returns the original customer
+	 * without storing it again.
+	 */
+	@Test
+	void testSaveDuplicateCustomerReturnsOriginal() {
+		Customer saved = rewardsService.saveCustomer(customer);
+
+		Customer retry = new Customer();
+		retry.setCustomerName("John");
+		Transaction retryTransaction = new Transaction();
+		retryTransaction.setAmount(120.0);
+		retryTransaction.setDate(LocalDate.of(2024, 1, 15));
+		retryTransaction.setCustomer(retry);
+		retry.setTransaction(List.of(retryTransaction));
+
+		Customer duplicate = rewardsService.saveCustomer(retry);
+		assertEquals(saved.getCustomerId(), duplicate.getCustomerId());
+		assertEquals(1, customerRepository.count());
+		assertEquals(1, transactionRepository.count());
+	}
+
+	/**
+	 * Tests the fallback for a key the in-memory index has not seen: the unique
+	 * constraint rejects the insert and the stored customer is returned.
+	 */
+	@Test
+	void testSaveCustomerFallsBackOnUniqueKeyViolation() {
+		Customer stored = new Customer();
+		stored.setCustomerName("John");
+		stored.setIdempotencyKey("key:unindexed-retry");
+		stored = customerRepository.save(stored);
+
+		customer.setIdempotencyKey("unindexed-retry");
+		Customer result = rewardsService.saveCustomer(customer);
+
+		assertEquals(stored.getCustomerId(), result.getCustomerId());
+		assertEquals(1, customerRepository.count());
+		assertEquals(0, transactionRepository.count());
+		assertEquals(0, outboxEventRepository.count());
+	}
+
+	/**
+	 * Tests that saving a customer updates the program-wide analytics, and a
+	 * duplicate submission does not.
+	 */
+	@Test
+	void testSaveCustomerUpdatesAnalytics() {
+		RewardAnalyticsDto before = rewardAnalyticsService.getAnalytics();
+		Customer saved = rewardsService.saveCustomer(customer);
+
+		Customer retry = new Customer();
+		retry.setCustomerName("John");
+		retry.setTransaction(List.of(new Transaction(null, 120.0, LocalDate.of(2024, 1, 15), retry)));
+		rewardsService.saveCustomer(retry);
+		RewardAnalyticsDto after = rewardAnalyticsService.getAnalytics();
+
+		assertEquals(before.getTotal().getPoints() + 90, after.getTotal().getPoints());
+		assertEquals(before.getTotal().getTransactions() + 1, after.getTotal().getTransactions());
+		assertEquals(saved.getCustomerId(), after.getLastCustomerId());
+		MonthSummary january = after.getByMonth().stream().filter(m -> m.getMonth().equals("2024-01")).findFirst()
+				.orElseThrow();
+		assertTrue(january.getPoints() >= 90);
+		assertTrue(january.getActiveCustomers() >= 1);
+	}
+
+	/**
+	 * Tests that saving a customer records a points-earned outbox event.
+	 */
+	@Test
+	void testSaveCustomerWritesOutboxEvent() {
+		Customer saved = rewardsService.saveCustomer(customer);
+
+		List<OutboxEvent> events = outboxEventRepository.findAll().stream()
+				.filter(e -> saved.getCustomerId().equals(e.getCustomerId())).toList();
+		assertEquals(1, events.size());
+		assertEquals(OutboxEvent.POINTS_EARNED, events.get(0).getEventType());
+		assertEquals(90, events.get(0).getPoints());
+	}
+
 	/**
 	 * Tests reward calculation for a valid customer and transaction.
 	 */
@@ -88,6 +186,23 @@ public class RewardsServiceIntegrationTest {
 		assertEquals(90, result.get("Total Rewards")); // 120.0 should give 90 points
 	}
 
+	/**
+	 * Tests that repeated reward lookups read the customer from the second-level
+	 * cache instead of the database.
+	 */
+	@Test
+	void testCalculateRewardsUsesCustomerCache() {
+		Customer saved = rewardsService.saveCustomer(customer);
+		CacheRegionStatistics region = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+				.getCacheRegionStatistics("customer");
+		long hitsBefore = region.getHitCount();
+
+		rewardsService.calculateRewards(saved.getCustomerId(), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+		rewardsService.calculateRewards(saved.getCustomerId(), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+		assertTrue(region.getHitCount() >= hitsBefore + 2);
+	}
+
 	/**
 	 * Tests that an exception is thrown when start date is after end date.
 	 */
@@ -0,0 +1,79 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.infy.logging.SamplingTurboFilter;
+
+/**
+ * Tests for {@link SamplingTurboFilter}.
+ * <p>
+ * Verifies that exactly one in {@code rate} INFO events passes when INFO calls
+ * are mixed with disabled DEBUG calls and level guards, and that more severe
+ * events are never sampled.
+ * </p>
+ */
+public class SamplingTurboFilterTest {
+
+	/**
+	 * Tests the INFO sampling rate with interleaved DEBUG calls and guards.
+	 */
+	@Test
+	void testSamplesInfoIgnoringDebugAndGuards() {
+		LoggerContext context = sampledContext();
+		ListAppender<ILoggingEvent> appender = new ListAppender<>();
+		Logger logger = infoLogger(context, "com.infy.service.RewardsServiceImpl", appender);
+
+		for (int i = 0; i < 100; i++) {
+			logger.debug("debug {}", i);
+			if (logger.isInfoEnabled()) {
+				logger.info("info {}", i);
+			}
+			logger.debug("debug again {}", i);
+		}
+		logger.warn("warn");
+
+		assertEquals(10, appender.list.stream().filter(e -> e.getLevel() == Level.INFO).count());
+		assertEquals(1, appender.list.stream().filter(e -> e.getLevel() == Level.WARN).count());
+	}
+
+	/**
+	 * Tests that other classes in the same package are not sampled.
+	 */
+	@Test
+	void testOtherServicesAreNotSampled() {
+		LoggerContext context = sampledContext();
+		ListAppender<ILoggingEvent> appender = new ListAppender<>();
+		Logger logger = infoLogger(context, "com.infy.service.RewardSimulationServiceImpl", appender);
+
+		for (int i = 0; i < 100; i++) {
+			logger.info("info {}", i);
+		}
+
+		assertEquals(100, appender.list.size());
+	}
+
+	private static LoggerContext sampledContext() {
+		LoggerContext context = new LoggerContext();
+		SamplingTurboFilter filter = new SamplingTurboFilter();
+		filter.setLoggerName("com.infy.service.RewardsServiceImpl");
+		filter.setLevel("INFO");
+		filter.setRate(10);
+		filter.setContext(context);
+		filter.start();
+		context.addTurboFilter(filter);
+		return context;
+	}
+
+	private static Logger infoLogger(LoggerContext context, String name, ListAppender<ILoggingEvent> appender) {
+		appender.setContext(context);
+		appender.start();
+		Logger logger = context.getLogger(name);
+		logger.setLevel(Level.INFO);
+		logger.addAppender(appender);
+		return logger;
+	}
+}
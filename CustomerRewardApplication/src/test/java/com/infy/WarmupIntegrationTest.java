@@ -0,0 +1,66 @@
+package com.infy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import com.infy.repository.CustomerRepository;
+import com.infy.warmup.WarmupRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests for the pre-readiness warm-up.
+ * <p>
+ * Starts the context with the warm-up enabled and checks that it ran before
+ * readiness, that its steps completed, and that the scratch customer it works
+ * on is rolled back.
+ * </p>
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.properties", properties = { "rewards.warmup.enabled=true",
+		"rewards.warmup.iterations=5" })
+public class WarmupIntegrationTest {
+
+	@Autowired
+	private ApplicationAvailability applicationAvailability;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private WarmupRunner warmupRunner;
+
+	/**
+	 * Tests that the warm-up reported its duration and readiness is UP.
+	 */
+	@Test
+	void testWarmupRunsBeforeReadiness() {
+		assertEquals(ReadinessState.ACCEPTING_TRAFFIC, applicationAvailability.getReadinessState());
+		assertTrue(meterRegistry.get("rewards.warmup.duration").timeGauge().value() > 0);
+	}
+
+	/**
+	 * Tests that the steps succeeded: the pool step opened connections and
+	 * every configured synthetic iteration completed.
+	 */
+	@Test
+	void testWarmupStepsCompleted() {
+		assertTrue(warmupRunner.getPooledConnections() > 0);
+		assertEquals(5, warmupRunner.getSyntheticCalls());
+	}
+
+	/**
+	 * Tests that the synthetic ingestion left no customer behind.
+	 */
+	@Test
+	void testWarmupLeavesNoScratchCustomer() {
+		assertTrue(customerRepository.findAll().stream()
+				.noneMatch(customer -> "warmup-scratch".equals(customer.getCustomerName())));
+	}
+}
@@ -0,0 +1,102 @@
+package com.infy.benchmark;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infy.dto.CustomerDto;
+import com.infy.dto.TransactionDto;
+import com.infy.model.Customer;
+import com.infy.model.Transaction;
+
+/**
+ * Compares payload size and encode/decode time of JSON, Smile and CBOR for the
+ * rewards API bodies: a bulk {@link CustomerDto} post and a rewards summary.
+ * <p>
+ * Not part of the test suite. Run with:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.infy.benchmark.PayloadFormatBenchmark}
+ * </p>
+ */
+public class PayloadFormatBenchmark {
+
+	private static final int TRANSACTIONS = 200;
+	private static final int WARMUP = 20_000;
+	private static final int ITERATIONS = 50_000;
+
+	/** Keeps the JIT from eliminating the measured calls. */
+	static volatile long blackhole;
+
+	public static void main(String[] args) throws Exception {
+		Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+		mappers.put("json", Jackson2ObjectMapperBuilder.json().build());
+		mappers.put("smile", Jackson2ObjectMapperBuilder.smile().build());
+		mappers.put("cbor", Jackson2ObjectMapperBuilder.cbor().build());
+
+		CustomerDto customerDto = customerDto();
+		Map<String, Object> rewards = rewardsSummary();
+
+		System.out.printf("%-8s %-14s %10s %14s %14s%n", "format", "payload", "bytes", "encode ns/op", "decode ns/op");
+		for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+			run(entry.getKey(), "CustomerDto", entry.getValue(), customerDto, CustomerDto.class);
+			run(entry.getKey(), "rewards", entry.getValue(), rewards, Map.class);
+		}
+	}
+
+	private static void run(String format, String payload, ObjectMapper mapper, Object value, Class<?> type)
+			throws Exception {
+		byte[] bytes = mapper.writeValueAsBytes(value);
+		long sink = 0;
+		for (int i = 0; i < WARMUP; i++) {
+			sink += mapper.writeValueAsBytes(value).length;
+			sink += mapper.readValue(bytes, type).hashCode();
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink += mapper.writeValueAsBytes(value).length;
+		}
+		long encode = (System.nanoTime() - start) / ITERATIONS;
+
+		start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink += mapper.readValue(bytes, type).hashCode();
+		}
+		long decode = (System.nanoTime() - start) / ITERATIONS;
+
+		blackhole += sink;
+		System.out.printf("%-8s %-14s %10d %14d %14d%n", format, payload, bytes.length, encode, decode);
+	}
+
+	private static CustomerDto customerDto() {
+		List<TransactionDto> transactions = new ArrayList<>();
+		for (int i = 0; i < TRANSACTIONS; i++) {
+			transactions.add(new TransactionDto(20 + (i * 7.25) % 300, LocalDate.of(2025, 1, 1).plusDays(i)));
+		}
+		return new CustomerDto("Benchmark Customer", transactions);
+	}
+
+	private static Map<String, Object> rewardsSummary() {
+		Customer customer = new Customer(1L, "Benchmark Customer", new ArrayList<>(), null);
+		for (int i = 0; i < TRANSACTIONS; i++) {
+			customer.getTransaction()
+					.add(new Transaction((long) i, 20 + (i * 7.25) % 300, LocalDate.of(2025, 1, 1).plusDays(i), customer));
+		}
+
+		List<Map<String, Object>> breakdown = new ArrayList<>();
+		for (String month : List.of("JANUARY", "FEBRUARY", "MARCH", "APRIL", "MAY", "JUNE", "JULY")) {
+			Map<String, Object> entry = new HashMap<>();
+			entry.put("month", month);
+			entry.put("points", 1000);
+			breakdown.add(entry);
+		}
+
+		Map<String, Object> response = new HashMap<>();
+		response.put("Customer Details", customer);
+		response.put("Rewards Breakdown", breakdown);
+		response.put("Total Rewards", 7000);
+		return response;
+	}
+}
@@ -0,0 +1,17 @@
+-- Schema of a database created by ddl-auto=update before Flyway: customer and
+-- transaction only, no outbox and no idempotency key.
+
+CREATE TABLE IF NOT EXISTS customer (
+    customer_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    customer_name VARCHAR(255),
+    PRIMARY KEY (customer_id)
+);
+
+CREATE TABLE IF NOT EXISTS transaction (
+    transaction_id BIGINT NOT NULL AUTO_INCREMENT,
+    amount         DOUBLE NOT NULL,
+    date           DATE,
+    customer_id    BIGINT,
+    PRIMARY KEY (transaction_id),
+    CONSTRAINT fk_transaction_customer FOREIGN KEY (customer_id) REFERENCES customer (customer_id)
+);
@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+#
+# Compares the MVC and reactive rewards lookups at high concurrency.
+#
+# Both applications must be running against the same MySQL database (MVC on
+# 8091, reactive on 8092). One customer is seeded through the MVC application,
+# then the same GET rewards request is driven against each with `hey`
+# (https://github.com/rakyll/hey) at every concurrency level in turn.
+#
+# Usage: load/reactive-vs-mvc.sh [label]
+#   MVC_URL       (default http://localhost:8091)
+#   REACTIVE_URL  (default http://localhost:8092)
+#   DURATION      (default 30s)
+#   LEVELS        (default "50 200 1000")
+
+set -euo pipefail
+
+LABEL="${1:-run}"
+MVC_URL="${MVC_URL:-http://localhost:8091}"
+REACTIVE_URL="${REACTIVE_URL:-http://localhost:8092}"
+DURATION="${DURATION:-30s}"
+LEVELS="${LEVELS:-50 200 1000}"
+RESULTS_DIR="$(dirname "$0")/results"
+
+command -v hey >/dev/null || { echo "hey is required (go install github.com/rakyll/hey@latest)"; exit 1; }
+mkdir -p "$RESULTS_DIR"
+
+PAYLOAD='{"customerName":"Load","transaction":[{"amount":120.00,"date":"2025-03-15"},{"amount":70.00,"date":"2025-04-10"},{"amount":40.00,"date":"2025-05-02"}]}'
+
+CUSTOMER_ID=$(curl -sf -H 'Content-Type: application/json' -H "Idempotency-Key: $LABEL-$(date +%s)" \
+	-d "$PAYLOAD" "$MVC_URL/api/customers" \
+	| sed -n 's/.*"customerId":\([0-9]*\).*/\1/p')
+[ -n "$CUSTOMER_ID" ] || { echo "could not seed customer at $MVC_URL"; exit 1; }
+
+QUERY="/api/customers/$CUSTOMER_ID/rewards?startDate=2025-01-01&endDate=2025-12-31"
+
+# The MVC limiter would shed most of the load at these levels and hide the
+# thread-per-request cost; start the MVC app with rewards.limiter.enabled=false.
+for C in $LEVELS; do
+	for TARGET in mvc reactive; do
+		URL=$MVC_URL; [ "$TARGET" = reactive ] && URL=$REACTIVE_URL
+		echo "== [$LABEL] $TARGET GET rewards, c=$C, z=$DURATION"
+		hey -z "$DURATION" -c "$C" "$URL$QUERY" \
+			| tee "$RESULTS_DIR/$LABEL-$TARGET-c$C.txt" | grep -E 'Requests/sec|99% in|Status code' -A0
+	done
+done
@@ -0,0 +1,19 @@
+package com.infy.reactive;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Reactive read-path application for Customer Rewards (WebFlux + R2DBC).
+ * <p>
+ * Serves the same rewards lookup as the MVC application against the same
+ * schema, without holding a thread per in-flight request. Ingestion and schema
+ * migrations stay with the MVC application.
+ * </p>
+ */
+@SpringBootApplication
+public class CustomerRewardsReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(CustomerRewardsReactiveApplication.class, args);
+	}
+}
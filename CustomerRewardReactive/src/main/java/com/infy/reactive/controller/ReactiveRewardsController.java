@@ -0,0 +1,62 @@
+package com.infy.reactive.controller;
+import java.time.LocalDate;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import com.infy.reactive.model.MonthlyPoints;
+import com.infy.reactive.service.ReactiveRewardsService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive REST controller for customer rewards.
+ * <p>
+ * Mirrors {@code GET /api/customers/{customerId}/rewards} of the MVC
+ * application. Clients that accept {@code application/x-ndjson} receive the
+ * monthly breakdown as a stream instead, one month per line.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/customers")
+public class ReactiveRewardsController {
+
+	@Autowired
+	private ReactiveRewardsService rewardsService;
+
+	/**
+	 * Retrieves the reward points earned by a customer within a specified date
+	 * range.
+	 *
+	 * @param customerId the ID of the customer
+	 * @param startDate  the start date of the period (ISO format)
+	 * @param endDate    the end date of the period (ISO format)
+	 * @return the reward breakdown and customer details
+	 */
+	@GetMapping(value = "/{customerId}/rewards", produces = MediaType.APPLICATION_JSON_VALUE)
+	public Mono<Map<String, Object>> getRewards(@PathVariable Long customerId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+		return rewardsService.calculateRewards(customerId, startDate, endDate);
+	}
+
+	/**
+	 * Streams the reward points earned per month as newline-delimited JSON.
+	 *
+	 * @param customerId the ID of the customer
+	 * @param startDate  the start date of the period (ISO format)
+	 * @param endDate    the end date of the period (ISO format)
+	 * @return points per month in date order
+	 */
+	@GetMapping(value = "/{customerId}/rewards", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<MonthlyPoints> streamRewards(@PathVariable Long customerId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+		return rewardsService.monthlyBreakdown(customerId, startDate, endDate);
+	}
+}
@@ -0,0 +1,12 @@
+package com.infy.reactive.exception;
+
+/**
+ * Represents the structure of error response returned to the client; same
+ * shape as the MVC application's ErrorDetails.
+ *
+ * @param statusCode HTTP status code
+ * @param message    error message
+ * @param details    request description
+ */
+public record ErrorDetails(int statusCode, String message, String details) {
+}
@@ -0,0 +1,75 @@
+package com.infy.reactive.exception;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Global exception handler for the reactive controllers.
+ * <p>
+ * Returns the same status codes and error body as the MVC application's
+ * handler for the exceptions the rewards lookup can raise.
+ * </p>
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+	/**
+	 * Handles CustomerNotFoundException with HTTP 404 Not Found.
+	 *
+	 * @param ex      the exception thrown
+	 * @param request the request being handled
+	 * @return ResponseEntity with error details and 404 status
+	 */
+	@ExceptionHandler(CustomerNotFoundException.class)
+	public ResponseEntity<ErrorDetails> handleCustomerNotFoundException(CustomerNotFoundException ex,
+			ServerHttpRequest request) {
+		return error(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+	}
+
+	/**
+	 * Handles InvalidRequestException with HTTP 400 Bad Request.
+	 *
+	 * @param ex      the exception thrown
+	 * @param request the request being handled
+	 * @return ResponseEntity with error details and 400 status
+	 */
+	@ExceptionHandler(InvalidRequestException.class)
+	public ResponseEntity<ErrorDetails> handleInvalidRequestException(InvalidRequestException ex,
+			ServerHttpRequest request) {
+		return error(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+	}
+
+	/**
+	 * Handles missing or unparseable path variables and request parameters
+	 * with HTTP 400 Bad Request.
+	 *
+	 * @param ex      the exception thrown
+	 * @param request the request being handled
+	 * @return ResponseEntity with error details and 400 status
+	 */
+	@ExceptionHandler(ServerWebInputException.class)
+	public ResponseEntity<ErrorDetails> handleServerWebInputException(ServerWebInputException ex,
+			ServerHttpRequest request) {
+		return error(HttpStatus.BAD_REQUEST, ex.getReason(), request);
+	}
+
+	/**
+	 * Fallback handler for unhandled exceptions (HTTP 500).
+	 *
+	 * @param ex      the exception thrown
+	 * @param request the request being handled
+	 * @return ResponseEntity with error details and 500 status
+	 */
+	@ExceptionHandler(Exception.class)
+	public ResponseEntity<ErrorDetails> handleGenericException(Exception ex, ServerHttpRequest request) {
+		return error(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), request);
+	}
+
+	private ResponseEntity<ErrorDetails> error(HttpStatus status, String message, ServerHttpRequest request) {
+		ErrorDetails errorDetails = new ErrorDetails(status.value(), message, "uri=" + request.getPath().value());
+		return new ResponseEntity<>(errorDetails, status);
+	}
+}
@@ -0,0 +1,13 @@
+package com.infy.reactive.model;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Read model of a row in the {@code customer} table.
+ *
+ * @param customerId   customer ID
+ * @param customerName customer name
+ */
+@Table("customer")
+public record Customer(@Id Long customerId, String customerName) {
+}
@@ -0,0 +1,10 @@
+package com.infy.reactive.model;
+
+/**
+ * Reward points earned in one month, as in the MVC "Rewards Breakdown".
+ *
+ * @param month  month name (e.g. "MARCH")
+ * @param points points earned
+ */
+public record MonthlyPoints(String month, int points) {
+}
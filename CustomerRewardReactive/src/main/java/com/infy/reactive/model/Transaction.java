@@ -0,0 +1,16 @@
+package com.infy.reactive.model;
+import java.time.LocalDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Read model of a row in the {@code transaction} table.
+ *
+ * @param transactionId transaction ID
+ * @param customerId    owning customer ID
+ * @param amount        transaction amount
+ * @param date          transaction date
+ */
+@Table("transaction")
+public record Transaction(@Id Long transactionId, Long customerId, double amount, LocalDate date) {
+}
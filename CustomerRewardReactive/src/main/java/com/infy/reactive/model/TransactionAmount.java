@@ -0,0 +1,12 @@
+package com.infy.reactive.model;
+import java.time.LocalDate;
+
+/**
+ * Date and amount of a transaction; the only columns the rewards calculation
+ * reads.
+ *
+ * @param date   transaction date
+ * @param amount transaction amount
+ */
+public record TransactionAmount(LocalDate date, double amount) {
+}
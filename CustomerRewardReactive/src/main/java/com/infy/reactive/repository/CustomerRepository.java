@@ -0,0 +1,12 @@
+package com.infy.reactive.repository;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import com.infy.reactive.model.Customer;
+
+/**
+ * Reactive repository for reading customers.
+ */
+@Repository
+public interface CustomerRepository extends ReactiveCrudRepository<Customer, Long> {
+
+}
@@ -0,0 +1,28 @@
+package com.infy.reactive.repository;
+import java.time.LocalDate;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import com.infy.reactive.model.Transaction;
+import com.infy.reactive.model.TransactionAmount;
+
+/**
+ * Reactive repository for reading transactions.
+ */
+@Repository
+public interface TransactionRepository extends ReactiveCrudRepository<Transaction, Long> {
+
+	/**
+	 * Streams the date and amount of a customer's transactions within a date
+	 * range, oldest first. Served from the (customer_id, date, amount) index.
+	 *
+	 * @param customerId the ID of the customer
+	 * @param startDate  the start date (inclusive)
+	 * @param endDate    the end date (inclusive)
+	 * @return transaction amounts in date order
+	 */
+	@Query("SELECT date, amount FROM transaction WHERE customer_id = :customerId"
+			+ " AND date BETWEEN :startDate AND :endDate ORDER BY date")
+	Flux<TransactionAmount> findAmounts(Long customerId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,35 @@
+package com.infy.reactive.service;
+import java.time.LocalDate;
+import java.util.Map;
+import com.infy.reactive.model.MonthlyPoints;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the MVC application's rewards lookup.
+ */
+public interface ReactiveRewardsService {
+
+	/**
+	 * Calculates the rewards for a customer within a specified date range.
+	 *
+	 * @param customerId the ID of the customer
+	 * @param startDate  the start date of the period
+	 * @param endDate    the end date of the period
+	 * @return customer details, rewards breakdown by month and total rewards,
+	 *         with the same keys as the MVC response; customer details carry
+	 *         only the ID and name
+	 */
+	Mono<Map<String, Object>> calculateRewards(Long customerId, LocalDate startDate, LocalDate endDate);
+
+	/**
+	 * Streams the points earned per month, each month emitted as soon as its
+	 * last transaction has been read.
+	 *
+	 * @param customerId the ID of the customer
+	 * @param startDate  the start date of the period
+	 * @param endDate    the end date of the period
+	 * @return points per month in date order
+	 */
+	Flux<MonthlyPoints> monthlyBreakdown(Long customerId, LocalDate startDate, LocalDate endDate);
+}
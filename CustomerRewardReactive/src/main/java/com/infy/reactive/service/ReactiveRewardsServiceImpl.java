@@ -0,0 +1,135 @@
+package com.infy.reactive.service;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import com.infy.reactive.exception.CustomerNotFoundException;
+import com.infy.reactive.exception.InvalidRequestException;
+import com.infy.reactive.model.Customer;
+import com.infy.reactive.model.MonthlyPoints;
+import com.infy.reactive.repository.CustomerRepository;
+import com.infy.reactive.repository.TransactionRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service implementation for the reactive rewards lookup.
+ * <p>
+ * The customer row and the transaction stream are requested together on
+ * separate connections, and the transactions are folded into monthly totals
+ * as they arrive, so no request holds a thread while waiting on the database.
+ * Validation, messages and the reward rules are those of the MVC application.
+ * Unlike the MVC response, "Customer Details" holds only the customer ID and
+ * name, not the customer's whole transaction history.
+ * </p>
+ */
+@Service
+public class ReactiveRewardsServiceImpl implements ReactiveRewardsService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveRewardsServiceImpl.class);
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	/**
+	 * Calculates the rewards for a customer within a specified date range.
+	 * <p>
+	 * Months are grouped by name, as in the MVC response, so a range longer
+	 * than a year adds the same month of different years together.
+	 * </p>
+	 *
+	 * @throws InvalidRequestException   if input is invalid
+	 * @throws CustomerNotFoundException if no transactions or the customer is
+	 *                                   found
+	 */
+	@Override
+	public Mono<Map<String, Object>> calculateRewards(Long customerId, LocalDate startDate, LocalDate endDate) {
+		return Mono.defer(() -> {
+			logger.debug("Calculating rewards for customer ID: {}", customerId);
+			validateRewardRequest(customerId, startDate, endDate);
+
+			Mono<Map<String, Integer>> pointsByMonth = transactionRepository
+					.findAmounts(customerId, startDate, endDate)
+					.<Map<String, Integer>>reduceWith(LinkedHashMap::new, (totals, t) -> {
+						totals.merge(t.date().getMonth().toString(), RewardRules.CURRENT.points(t.amount()),
+								Integer::sum);
+						return totals;
+					}).filter(totals -> !totals.isEmpty()).switchIfEmpty(Mono.error(
+							() -> new CustomerNotFoundException("No transactions found for customer ID: " + customerId)));
+
+			Mono<Customer> customer = customerRepository.findById(customerId).switchIfEmpty(
+					Mono.error(() -> new CustomerNotFoundException("Customer not found for ID: " + customerId)));
+
+			return Mono.zip(pointsByMonth, customer).map(result -> toResponse(result.getT2(), result.getT1()));
+		});
+	}
+
+	/**
+	 * Streams the points earned per month. Consecutive transactions of the same
+	 * calendar month are summed and emitted when the next month starts, so the
+	 * client sees the first months before the last rows are read.
+	 *
+	 * @throws InvalidRequestException   if input is invalid
+	 * @throws CustomerNotFoundException if no transactions are found
+	 */
+	@Override
+	public Flux<MonthlyPoints> monthlyBreakdown(Long customerId, LocalDate startDate, LocalDate endDate) {
+		return Flux.defer(() -> {
+			validateRewardRequest(customerId, startDate, endDate);
+			return transactionRepository.findAmounts(customerId, startDate, endDate)
+					.bufferUntilChanged(t -> t.date().withDayOfMonth(1))
+					.map(month -> new MonthlyPoints(month.get(0).date().getMonth().toString(),
+							month.stream().mapToInt(t -> RewardRules.CURRENT.points(t.amount())).sum()))
+					.switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(
+							"No transactions found for customer ID: " + customerId)));
+		});
+	}
+
+	private Map<String, Object> toResponse(Customer customer, Map<String, Integer> pointsByMonth) {
+		List<Map<String, Object>> rewardByMonth = new ArrayList<>();
+		int totalPoints = 0;
+		for (Map.Entry<String, Integer> entry : pointsByMonth.entrySet()) {
+			Map<String, Object> map = new HashMap<>();
+			map.put("month", entry.getKey());
+			map.put("points", entry.getValue());
+			rewardByMonth.add(map);
+			totalPoints += entry.getValue();
+		}
+
+		Map<String, Object> customerDetails = new LinkedHashMap<>();
+		customerDetails.put("customerId", customer.customerId());
+		customerDetails.put("customerName", customer.customerName());
+
+		Map<String, Object> response = new HashMap<>();
+		response.put("Customer Details", customerDetails);
+		response.put("Rewards Breakdown", rewardByMonth);
+		response.put("Total Rewards", totalPoints);
+		return response;
+	}
+
+	/**
+	 * Validates the input for reward calculation.
+	 *
+	 * @throws InvalidRequestException if any input is invalid
+	 */
+	private void validateRewardRequest(Long customerId, LocalDate startDate, LocalDate endDate) {
+		if (customerId == null || customerId <= 0) {
+			throw new InvalidRequestException("Customer ID must be a positive number.");
+		}
+		if (startDate == null || endDate == null) {
+			throw new InvalidRequestException("Start date and end date cannot be null.");
+		}
+		if (startDate.isAfter(endDate)) {
+			throw new InvalidRequestException("Start date cannot be after end date.");
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.infy.reactive.service;
+
+/**
+ * Tiered reward rules, kept identical to {@code com.infy.service.RewardRules}
+ * in the MVC application: {@code lowerRate} points per dollar spent over
+ * {@code lowerThreshold} up to {@code upperThreshold}, plus {@code upperRate}
+ * points per dollar spent over {@code upperThreshold}. Each tier is truncated
+ * to whole points separately.
+ *
+ * @param lowerThreshold amount above which the first tier starts
+ * @param upperThreshold amount above which the second tier starts
+ * @param lowerRate      points per dollar in the first tier
+ * @param upperRate      points per dollar in the second tier
+ */
+public record RewardRules(double lowerThreshold, double upperThreshold, double lowerRate, double upperRate) {
+
+	/** The rules in production: 1 point per dollar over $50, 2 over $100. */
+	public static final RewardRules CURRENT = new RewardRules(50, 100, 1, 2);
+
+	/**
+	 * Calculates reward points for a single transaction amount.
+	 *
+	 * @param amount the transaction amount
+	 * @return points earned
+	 */
+	public int points(double amount) {
+		int points = 0;
+		if (amount > upperThreshold)
+			points += (int) ((amount - upperThreshold) * upperRate);
+		if (amount > lowerThreshold)
+			points += (int) ((Math.min(amount, upperThreshold) - lowerThreshold) * lowerRate);
+		return points;
+	}
+}
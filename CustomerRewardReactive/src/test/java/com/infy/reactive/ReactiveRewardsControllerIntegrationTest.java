@@ -0,0 +1,98 @@
+package com.infy.reactive;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import com.infy.reactive.model.MonthlyPoints;
+
+/**
+ * Integration tests for the ReactiveRewardsController.
+ * <p>
+ * Runs the full WebFlux and R2DBC stack against an in-memory H2 database
+ * loaded from {@code schema.sql} and {@code data.sql}. Breakdowns, totals and
+ * error bodies match those of the MVC endpoint; "Customer Details" omits the
+ * transaction history that the MVC endpoint serializes.
+ * </p>
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class ReactiveRewardsControllerIntegrationTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	/**
+	 * Tests the rewards calculation, including a fractional amount and a month
+	 * that earns no points.
+	 */
+	@Test
+	void testGetRewardsSuccess() {
+		webTestClient.get().uri("/api/customers/1/rewards?startDate=2024-01-01&endDate=2024-03-31")
+				.accept(MediaType.APPLICATION_JSON).exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$['Customer Details'].customerId").isEqualTo(1)
+				.jsonPath("$['Customer Details'].customerName").isEqualTo("Test Customer")
+				.jsonPath("$['Customer Details'].transaction").doesNotExist()
+				.jsonPath("$['Rewards Breakdown'][0].month").isEqualTo("JANUARY")
+				.jsonPath("$['Rewards Breakdown'][0].points").isEqualTo(90)
+				.jsonPath("$['Rewards Breakdown'][1].points").isEqualTo(20)
+				.jsonPath("$['Rewards Breakdown'][2].month").isEqualTo("MARCH")
+				.jsonPath("$['Rewards Breakdown'][2].points").isEqualTo(25)
+				.jsonPath("$['Total Rewards']").isEqualTo(135);
+	}
+
+	/**
+	 * Tests the streamed monthly breakdown.
+	 */
+	@Test
+	void testStreamRewards() {
+		List<MonthlyPoints> months = webTestClient.get()
+				.uri("/api/customers/1/rewards?startDate=2024-01-01&endDate=2024-03-31")
+				.accept(MediaType.APPLICATION_NDJSON).exchange()
+				.expectStatus().isOk()
+				.expectBodyList(MonthlyPoints.class)
+				.returnResult().getResponseBody();
+
+		assertEquals(List.of(new MonthlyPoints("JANUARY", 90), new MonthlyPoints("FEBRUARY", 20),
+				new MonthlyPoints("MARCH", 25)), months);
+	}
+
+	/**
+	 * Tests the 404 response for a customer without transactions in range.
+	 */
+	@Test
+	void testGetRewardsNoTransactions() {
+		webTestClient.get().uri("/api/customers/2/rewards?startDate=2024-01-01&endDate=2024-03-31")
+				.exchange()
+				.expectStatus().isNotFound()
+				.expectBody()
+				.jsonPath("$.message").isEqualTo("No transactions found for customer ID: 2");
+	}
+
+	/**
+	 * Tests the 400 response for a start date after the end date.
+	 */
+	@Test
+	void testGetRewardsInvalidDateRange() {
+		webTestClient.get().uri("/api/customers/1/rewards?startDate=2024-04-01&endDate=2024-03-31")
+				.exchange()
+				.expectStatus().isBadRequest()
+				.expectBody()
+				.jsonPath("$.message").isEqualTo("Start date cannot be after end date.");
+	}
+
+	/**
+	 * Tests the 400 response for a malformed date parameter.
+	 */
+	@Test
+	void testGetRewardsMalformedDate() {
+		webTestClient.get().uri("/api/customers/1/rewards?startDate=2024-13-01&endDate=2024-03-31")
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+}
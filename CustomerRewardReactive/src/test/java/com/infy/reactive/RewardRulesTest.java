@@ -0,0 +1,44 @@
+package com.infy.reactive;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import com.infy.reactive.service.RewardRules;
+
+/**
+ * Tests for {@link RewardRules}.
+ * <p>
+ * Pins the current rules to the original tier formula so the reactive read
+ * path stays in line with the MVC rewards calculation.
+ * </p>
+ */
+public class RewardRulesTest {
+
+	/**
+	 * Tests the documented examples for the current rules.
+	 */
+	@Test
+	void testCurrentRulesExamples() {
+		assertEquals(0, RewardRules.CURRENT.points(40.0));
+		assertEquals(0, RewardRules.CURRENT.points(50.0));
+		assertEquals(20, RewardRules.CURRENT.points(70.0));
+		assertEquals(50, RewardRules.CURRENT.points(100.0));
+		assertEquals(90, RewardRules.CURRENT.points(120.0));
+		assertEquals(850, RewardRules.CURRENT.points(500.0));
+	}
+
+	/**
+	 * Tests that the current rules match the original formula, including
+	 * fractional amounts, in cent steps up to $1,000.
+	 */
+	@Test
+	void testCurrentRulesMatchOriginalFormula() {
+		for (int cents = 1; cents <= 100_000; cents++) {
+			double amount = cents / 100.0;
+			int expected = 0;
+			if (amount > 100)
+				expected += (int) ((amount - 100) * 2);
+			if (amount > 50)
+				expected += (int) Math.min(amount, 100) - 50;
+			assertEquals(expected, RewardRules.CURRENT.points(amount), "amount " + amount);
+		}
+	}
+}
@@ -0,0 +1,10 @@
+DELETE FROM transaction;
+DELETE FROM customer;
+
+INSERT INTO customer (customer_id, customer_name) VALUES (1, 'Test Customer');
+INSERT INTO customer (customer_id, customer_name) VALUES (2, 'No Transactions');
+
+INSERT INTO transaction (amount, date, customer_id) VALUES (120.0, '2024-01-15', 1);
+INSERT INTO transaction (amount, date, customer_id) VALUES (70.0, '2024-02-10', 1);
+INSERT INTO transaction (amount, date, customer_id) VALUES (40.0, '2024-03-05', 1);
+INSERT INTO transaction (amount, date, customer_id) VALUES (75.5, '2024-03-20', 1);
@@ -0,0 +1,19 @@
+-- Same tables as the MVC application's db/migration scripts, reduced to the
+-- columns the reactive read path uses.
+
+CREATE TABLE IF NOT EXISTS customer (
+    customer_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    customer_name VARCHAR(255),
+    PRIMARY KEY (customer_id)
+);
+
+CREATE TABLE IF NOT EXISTS transaction (
+    transaction_id BIGINT NOT NULL AUTO_INCREMENT,
+    amount         DOUBLE NOT NULL,
+    date           DATE,
+    customer_id    BIGINT,
+    PRIMARY KEY (transaction_id),
+    CONSTRAINT fk_transaction_customer FOREIGN KEY (customer_id) REFERENCES customer (customer_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_customer_date_amount ON transaction (customer_id, date, amount);